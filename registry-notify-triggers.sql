@@ -0,0 +1,37 @@
+-- Publishes registry row changes as '<table>:<key>' on the channel read by the gateway registry snapshot
+-- (RegistrySnapshotEngine.REGISTRY_CHANGES_CHANNEL). Apply once per database after the registry tables exist.
+
+CREATE OR REPLACE FUNCTION notify_registry_change() RETURNS trigger AS $$
+DECLARE
+    key_column TEXT := TG_ARGV[0];
+    old_key TEXT;
+    new_key TEXT;
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        EXECUTE format('SELECT ($1).%I::text', key_column) INTO old_key USING OLD;
+        PERFORM pg_notify('gateway_registry_changes', TG_TABLE_NAME || ':' || old_key);
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        EXECUTE format('SELECT ($1).%I::text', key_column) INTO new_key USING NEW;
+        IF old_key IS DISTINCT FROM new_key THEN
+            PERFORM pg_notify('gateway_registry_changes', TG_TABLE_NAME || ':' || new_key);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS consent_manager_registry_change ON consent_manager;
+CREATE TRIGGER consent_manager_registry_change
+    AFTER INSERT OR UPDATE OR DELETE ON consent_manager
+    FOR EACH ROW EXECUTE PROCEDURE notify_registry_change('suffix');
+
+DROP TRIGGER IF EXISTS bridge_registry_change ON bridge;
+CREATE TRIGGER bridge_registry_change
+    AFTER INSERT OR UPDATE OR DELETE ON bridge
+    FOR EACH ROW EXECUTE PROCEDURE notify_registry_change('bridge_id');
+
+DROP TRIGGER IF EXISTS bridge_service_registry_change ON bridge_service;
+CREATE TRIGGER bridge_service_registry_change
+    AFTER INSERT OR UPDATE OR DELETE ON bridge_service
+    FOR EACH ROW EXECUTE PROCEDURE notify_registry_change('service_id');
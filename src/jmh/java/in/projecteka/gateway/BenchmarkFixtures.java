@@ -0,0 +1,67 @@
+package in.projecteka.gateway;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.cache.LoadingCacheAdapter;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class BenchmarkFixtures {
+    private static final String DISCOVER_REQUEST = load("payloads/discover-request.json");
+    private static final String ON_DISCOVER_RESPONSE = load("payloads/on-discover-response.json");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String discoverRequest(String requestId, String timestamp) {
+        return DISCOVER_REQUEST
+                .replace("${requestId}", requestId)
+                .replace("${timestamp}", timestamp);
+    }
+
+    public static String onDiscoverResponse(String requestId, String respRequestId) {
+        return ON_DISCOVER_RESPONSE
+                .replace("${requestId}", requestId)
+                .replace("${timestamp}", timestamp())
+                .replace("${respRequestId}", respRequestId);
+    }
+
+    public static String timestamp() {
+        return LocalDateTime.now(ZoneOffset.UTC).toString();
+    }
+
+    public static HttpEntity<String> entity(String body, String routingKey, String clientId) {
+        var headers = new HttpHeaders();
+        headers.add(routingKey, clientId);
+        return new HttpEntity<>(body, headers);
+    }
+
+    public static <K> CacheAdapter<K, String> cache() {
+        LoadingCache<K, String> loadingCache = CacheBuilder
+                .newBuilder()
+                .build(new CacheLoader<>() {
+                    public String load(K key) {
+                        return "";
+                    }
+                });
+        return new LoadingCacheAdapter<>(loadingCache);
+    }
+
+    private static String load(String resource) {
+        try (var stream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            return new String(Objects.requireNonNull(stream).readAllBytes(), UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
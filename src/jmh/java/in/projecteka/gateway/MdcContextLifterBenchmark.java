@@ -0,0 +1,60 @@
+package in.projecteka.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.MDC;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MdcContextLifterBenchmark {
+    private static final String HOOK_KEY = MdcContextLifterBenchmark.class.getName();
+
+    @Param({"false", "true"})
+    boolean lifted;
+
+    private String correlationId;
+    private String requestId;
+
+    @Setup
+    public void setUp() {
+        if (lifted) {
+            Hooks.onEachOperator(HOOK_KEY, Operators.lift((scannable, coreSubscriber) ->
+                    new MdcContextLifter<>(coreSubscriber)));
+        }
+        correlationId = UUID.randomUUID().toString();
+        requestId = UUID.randomUUID().toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Hooks.resetOnEachOperator(HOOK_KEY);
+        MDC.clear();
+    }
+
+    @Benchmark
+    public String operatorChain() {
+        return Mono.just(requestId)
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .flatMap(Mono::just)
+                .subscriberContext(ctx -> ctx.put(CORRELATION_ID, correlationId).put("apiCalled", "/v0.5/care-contexts/discover"))
+                .block();
+    }
+}
@@ -0,0 +1,102 @@
+package in.projecteka.gateway.clients;
+
+import in.projecteka.gateway.common.IdentityService;
+import in.projecteka.gateway.common.Serializer;
+import in.projecteka.gateway.common.TokenRefreshOptions;
+import in.projecteka.gateway.common.TokenRefresher;
+import in.projecteka.gateway.common.cache.ServiceOptions;
+import in.projecteka.gateway.registry.ServiceType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.BenchmarkFixtures.cache;
+import static in.projecteka.gateway.BenchmarkFixtures.discoverRequest;
+import static in.projecteka.gateway.BenchmarkFixtures.timestamp;
+import static in.projecteka.gateway.common.Constants.X_HIP_ID;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebClientReuseBenchmark {
+    private static final String URL = "http://localhost:9052/v0.5/care-contexts/discover";
+    private static final String TARGET_ID = "10000005";
+
+    private WebClient.Builder webClientBuilder;
+    private WebClient webClient;
+    private ServiceClient serviceClient;
+    private String body;
+    private Map<String, Object> request;
+
+    @Setup
+    public void setUp() {
+        webClientBuilder = WebClient.builder()
+                .exchangeFunction(clientRequest -> Mono.just(ClientResponse.create(ACCEPTED).build()));
+        webClient = webClientBuilder.build();
+        var accessTokenCache = cache();
+        accessTokenCache.put("gateway:gateway:accessToken", UUID.randomUUID().toString()).block();
+        var tokenRefresher = new TokenRefresher("gateway",
+                accessTokenCache,
+                TokenRefreshOptions.builder().refreshFraction(0.75).retryInterval(5).build(),
+                Schedulers.immediate(),
+                new SimpleMeterRegistry());
+        var identityService = new IdentityService(null, null, tokenRefresher);
+        serviceClient = new ServiceClient(ServiceOptions.builder().timeout(5).build(),
+                webClientBuilder,
+                identityService) {
+            @Override
+            protected Mono<String> getResponseUrl(String clientId, ServiceType serviceType) {
+                return Mono.just(URL);
+            }
+
+            @Override
+            protected Mono<String> getRequestUrl(String clientId, ServiceType serviceType) {
+                return Mono.just(URL);
+            }
+        };
+        body = discoverRequest(UUID.randomUUID().toString(), timestamp());
+        request = Serializer.deserialize(body.getBytes(UTF_8)).orElseThrow();
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> buildPerCall() {
+        return post(webClientBuilder.build());
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> reuseBuilt() {
+        return post(webClient);
+    }
+
+    @Benchmark
+    public Void routeRequest() {
+        return serviceClient.routeRequest(request, TARGET_ID, X_HIP_ID, null).block();
+    }
+
+    private ResponseEntity<Void> post(WebClient client) {
+        return client.post()
+                .uri(URL)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+}
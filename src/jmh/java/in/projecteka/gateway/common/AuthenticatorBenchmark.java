@@ -0,0 +1,65 @@
+package in.projecteka.gateway.common;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthenticatorBenchmark {
+    private static final String CLIENT_ID = "ncg";
+
+    private Authenticator authenticator;
+    private String token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        var rsaKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .subject(CLIENT_ID)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .claim("scope", "openid")
+                .claim("clientId", CLIENT_ID)
+                .claim("realm_access", Map.of("roles", List.of("CM")))
+                .build();
+        var header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .type(JOSEObjectType.JWT)
+                .keyID(rsaKey.getKeyID())
+                .build();
+        var jwt = new SignedJWT(header, claims);
+        jwt.sign(new RSASSASigner(rsaKey));
+        token = "Bearer " + jwt.serialize();
+        authenticator = new Authenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                new VerifiedTokenCache(10000));
+    }
+
+    @Benchmark
+    public Caller verify() {
+        return authenticator.verify(token).block();
+    }
+}
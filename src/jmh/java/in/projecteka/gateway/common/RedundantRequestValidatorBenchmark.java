@@ -0,0 +1,39 @@
+package in.projecteka.gateway.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.BenchmarkFixtures.cache;
+import static in.projecteka.gateway.BenchmarkFixtures.timestamp;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedundantRequestValidatorBenchmark {
+    private RedundantRequestValidator redundantRequestValidator;
+    private String timestamp;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redundantRequestValidator = new RedundantRequestValidator(cache(), "replay");
+    }
+
+    @Setup(Level.Iteration)
+    public void refreshTimestamp() {
+        timestamp = timestamp();
+    }
+
+    @Benchmark
+    public Boolean validate() {
+        return redundantRequestValidator.validate(UUID.randomUUID().toString(), timestamp).block();
+    }
+}
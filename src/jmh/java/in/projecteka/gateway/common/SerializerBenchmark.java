@@ -0,0 +1,47 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpEntity;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.BenchmarkFixtures.onDiscoverResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializerBenchmark {
+    private HttpEntity<String> response;
+    private Map<String, Object> deSerializedResponse;
+
+    @Setup
+    public void setUp() {
+        response = new HttpEntity<>(onDiscoverResponse(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        deSerializedResponse = Serializer.from(response).orElseThrow();
+    }
+
+    @Benchmark
+    public Optional<Map<String, Object>> deserialize() {
+        return Serializer.from(response);
+    }
+
+    @Benchmark
+    public JsonNode deserializeAsJsonNode() {
+        return Serializer.deserializeRequestAsJsonNode(response).block();
+    }
+
+    @Benchmark
+    public Optional<String> serialize() {
+        return Serializer.from(deSerializedResponse);
+    }
+}
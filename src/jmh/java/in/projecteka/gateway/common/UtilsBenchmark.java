@@ -0,0 +1,57 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.BenchmarkFixtures.onDiscoverResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UtilsBenchmark {
+    private HttpEntity<String> response;
+    private JsonNode deSerializedResponse;
+    private String callerRequestId;
+
+    @Setup
+    public void setUp() {
+        response = new HttpEntity<>(onDiscoverResponse(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        deSerializedResponse = Serializer.deserializeRequestAsJsonNode(response).block();
+        callerRequestId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public JsonNode updateRequestId() {
+        return Utils.updateRequestId(deSerializedResponse, callerRequestId);
+    }
+
+    @Benchmark
+    public String parseUpdateAndSerialize() {
+        return Serializer.deserializeRequestAsJsonNode(response)
+                .map(jsonNode -> Utils.updateRequestId(jsonNode, callerRequestId))
+                .flatMap(jsonNode -> Mono.justOrEmpty(Serializer.from(jsonNode)))
+                .block();
+    }
+
+    @Benchmark
+    public List<DataBuffer> passThroughRewrite() {
+        return RequestEnvelope.fromResponse(response)
+                .withRequestIds(UUID.randomUUID().toString(), callerRequestId)
+                .toDataBuffers()
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,76 @@
+package in.projecteka.gateway.common;
+
+import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.registry.BridgeRegistry;
+import in.projecteka.gateway.registry.CMRegistry;
+import in.projecteka.gateway.registry.ServiceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.util.Pair;
+import org.springframework.http.HttpEntity;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static in.projecteka.gateway.BenchmarkFixtures.cache;
+import static in.projecteka.gateway.BenchmarkFixtures.discoverRequest;
+import static in.projecteka.gateway.BenchmarkFixtures.entity;
+import static in.projecteka.gateway.BenchmarkFixtures.onDiscoverResponse;
+import static in.projecteka.gateway.BenchmarkFixtures.timestamp;
+import static in.projecteka.gateway.common.Constants.X_CM_ID;
+import static in.projecteka.gateway.common.Constants.X_HIP_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ValidatorBenchmark {
+    private static final String BRIDGE_ID = "10000005";
+    private static final String CM_ID = "ncg";
+
+    @Param({"false", "true"})
+    boolean passThrough;
+
+    private Validator validator;
+    private HttpEntity<String> request;
+    private HttpEntity<String> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings = cache();
+        CacheAdapter<String, String> cmMappings = cache();
+        CacheAdapter<String, String> requestIdMappings = cache();
+        var mappingRepository = new MappingRepository(null);
+        var gatewayRequestId = UUID.randomUUID().toString();
+        bridgeMappings.put(Pair.of(BRIDGE_ID, ServiceType.HIP), "http://localhost:9052").block();
+        cmMappings.put(CM_ID, "http://localhost:9051").block();
+        requestIdMappings.put(gatewayRequestId, UUID.randomUUID().toString()).block();
+        validator = new Validator(new BridgeRegistry(bridgeMappings, cache(), mappingRepository),
+                new CMRegistry(cmMappings, cache(), mappingRepository),
+                requestIdMappings,
+                new RedundantRequestValidator(cache(), null),
+                passThrough);
+        response = entity(onDiscoverResponse(UUID.randomUUID().toString(), gatewayRequestId), X_CM_ID, CM_ID);
+    }
+
+    @Setup(Level.Iteration)
+    public void refreshRequest() {
+        request = entity(discoverRequest(UUID.randomUUID().toString(), timestamp()), X_HIP_ID, BRIDGE_ID);
+    }
+
+    @Benchmark
+    public ValidatedRequest validateRequest() {
+        return validator.validateRequest(request, X_HIP_ID).block();
+    }
+
+    @Benchmark
+    public ValidatedResponse validateResponse() {
+        return validator.validateResponse(response, X_CM_ID).block();
+    }
+}
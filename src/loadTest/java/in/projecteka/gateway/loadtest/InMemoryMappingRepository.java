@@ -0,0 +1,30 @@
+package in.projecteka.gateway.loadtest;
+
+import in.projecteka.gateway.common.MappingRepository;
+import in.projecteka.gateway.registry.ServiceType;
+import org.springframework.data.util.Pair;
+import reactor.core.publisher.Mono;
+
+public class InMemoryMappingRepository extends MappingRepository {
+    private final String stubUrl;
+
+    public InMemoryMappingRepository(String stubUrl) {
+        super(null);
+        this.stubUrl = stubUrl;
+    }
+
+    @Override
+    public Mono<String> cmHost(String cmId) {
+        return Mono.just(stubUrl);
+    }
+
+    @Override
+    public Mono<String> bridgeHost(Pair<String, ServiceType> bridge) {
+        return Mono.just(stubUrl);
+    }
+
+    @Override
+    public Mono<String> bridgeHost(String bridgeId) {
+        return Mono.just(stubUrl);
+    }
+}
@@ -0,0 +1,80 @@
+package in.projecteka.gateway.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+public class LatencyRecorder {
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final Queue<Long> acceptLatencies = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> roundTripLatencies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public void started(String requestId) {
+        inFlight.put(requestId, System.nanoTime());
+    }
+
+    public void accepted(String requestId) {
+        var start = inFlight.get(requestId);
+        if (start != null) {
+            acceptLatencies.add(System.nanoTime() - start);
+        }
+    }
+
+    public void completed(String requestId) {
+        var start = inFlight.remove(requestId);
+        if (start != null) {
+            roundTripLatencies.add(System.nanoTime() - start);
+        }
+    }
+
+    public void failed(String requestId) {
+        if (inFlight.remove(requestId) != null) {
+            failures.incrementAndGet();
+        }
+    }
+
+    public void awaitCompletion(Duration timeout) throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    public String report(Scenario scenario, int concurrency, int requests, Duration elapsed) {
+        var completed = roundTripLatencies.size();
+        var throughput = completed / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        return format("%-28s concurrency=%-4d requests=%-6d completed=%-6d failed=%-4d timedOut=%-4d " +
+                        "throughput=%8.1f/s accept(p50=%.1fms p99=%.1fms) roundTrip(p50=%.1fms p99=%.1fms)",
+                scenario.getRequestPath(),
+                concurrency,
+                requests,
+                completed,
+                failures.get(),
+                inFlight.size(),
+                throughput,
+                percentile(acceptLatencies, 50),
+                percentile(acceptLatencies, 99),
+                percentile(roundTripLatencies, 50),
+                percentile(roundTripLatencies, 99));
+    }
+
+    private static double percentile(Collection<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        Collections.sort(sorted);
+        var index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1e6;
+    }
+}
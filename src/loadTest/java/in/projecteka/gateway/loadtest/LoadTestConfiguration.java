@@ -0,0 +1,17 @@
+package in.projecteka.gateway.loadtest;
+
+import in.projecteka.gateway.common.MappingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public MappingRepository inMemoryMappingRepository(@Value("${identity.url}") String stubUrl) {
+        return new InMemoryMappingRepository(stubUrl);
+    }
+}
@@ -0,0 +1,100 @@
+package in.projecteka.gateway.loadtest;
+
+import in.projecteka.gateway.GatewayApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static in.projecteka.gateway.common.Constants.REQUEST_ID;
+import static in.projecteka.gateway.common.Constants.TIMESTAMP;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+public class LoadTestRunner {
+    private final StubTokens tokens;
+    private final StubServer stubServer;
+    private final WebClient gateway;
+
+    private LoadTestRunner(StubTokens tokens, StubServer stubServer, String gatewayUrl) {
+        this.tokens = tokens;
+        this.stubServer = stubServer;
+        this.gateway = WebClient.create(gatewayUrl);
+    }
+
+    public static void main(String[] args) throws Exception {
+        var scenarios = Arrays.stream(System.getProperty("loadtest.scenarios", "DISCOVER,LINK_INIT,PATIENTS_FIND")
+                .split(","))
+                .map(String::trim)
+                .map(Scenario::valueOf)
+                .collect(toList());
+        var concurrencyLevels = Arrays.stream(System.getProperty("loadtest.concurrency", "1,16,64").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .collect(toList());
+        var requests = Integer.getInteger("loadtest.requests", 2000);
+        var timeout = Duration.ofSeconds(Integer.getInteger("loadtest.timeoutSeconds", 60));
+
+        var tokens = new StubTokens();
+        var stubServer = StubServer.start(tokens);
+        var application = new SpringApplication(GatewayApplication.class, LoadTestConfiguration.class);
+        application.setAdditionalProfiles("loadtest");
+        try (var context = application.run("--identity.url=" + stubServer.url(), "--server.port=0")) {
+            var gatewayUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            stubServer.forwardTo(gatewayUrl);
+            new LoadTestRunner(tokens, stubServer, gatewayUrl).run(scenarios, concurrencyLevels, requests, timeout);
+        } finally {
+            stubServer.dispose();
+        }
+    }
+
+    private void run(List<Scenario> scenarios,
+                     List<Integer> concurrencyLevels,
+                     int requests,
+                     Duration timeout) throws InterruptedException {
+        for (Scenario scenario : scenarios) {
+            for (Integer concurrency : concurrencyLevels) {
+                var recorder = new LatencyRecorder();
+                stubServer.record(recorder);
+                var start = System.nanoTime();
+                Flux.range(0, requests)
+                        .flatMap(index -> send(scenario, recorder), concurrency)
+                        .blockLast();
+                recorder.awaitCompletion(timeout);
+                var elapsed = Duration.ofNanos(System.nanoTime() - start);
+                System.out.println(recorder.report(scenario, concurrency, requests, elapsed));
+            }
+        }
+    }
+
+    private Mono<Void> send(Scenario scenario, LatencyRecorder recorder) {
+        var requester = scenario.getRequester();
+        var requestId = UUID.randomUUID().toString();
+        var body = Map.of(REQUEST_ID, requestId,
+                TIMESTAMP, LocalDateTime.now(ZoneOffset.UTC).toString(),
+                "transactionId", UUID.randomUUID().toString());
+        recorder.started(requestId);
+        return gateway.post()
+                .uri(scenario.getRequestPath())
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, tokens.bearer(requester.getClientId(), requester.getRole()))
+                .header(scenario.getTargetHeader(), scenario.getResponder().getClientId())
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .doOnSuccess(response -> recorder.accepted(requestId))
+                .doOnError(throwable -> recorder.failed(requestId))
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,86 @@
+package in.projecteka.gateway.loadtest;
+
+import in.projecteka.gateway.common.Role;
+
+import static in.projecteka.gateway.common.Constants.PATH_CARE_CONTEXTS_DISCOVER;
+import static in.projecteka.gateway.common.Constants.PATH_CARE_CONTEXTS_ON_DISCOVER;
+import static in.projecteka.gateway.common.Constants.PATH_LINK_INIT;
+import static in.projecteka.gateway.common.Constants.PATH_LINK_ON_INIT;
+import static in.projecteka.gateway.common.Constants.PATH_PATIENTS_FIND;
+import static in.projecteka.gateway.common.Constants.PATH_PATIENTS_ON_FIND;
+import static in.projecteka.gateway.common.Constants.X_CM_ID;
+import static in.projecteka.gateway.common.Constants.X_HIP_ID;
+import static in.projecteka.gateway.common.Constants.X_HIU_ID;
+
+public enum Scenario {
+    DISCOVER(PATH_CARE_CONTEXTS_DISCOVER, PATH_CARE_CONTEXTS_ON_DISCOVER, Party.CM, X_HIP_ID, Party.HIP, X_CM_ID),
+    LINK_INIT(PATH_LINK_INIT, PATH_LINK_ON_INIT, Party.CM, X_HIP_ID, Party.HIP, X_CM_ID),
+    PATIENTS_FIND(PATH_PATIENTS_FIND, PATH_PATIENTS_ON_FIND, Party.HIU, X_CM_ID, Party.CM, X_HIU_ID);
+
+    private final String requestPath;
+    private final String responsePath;
+    private final Party requester;
+    private final String targetHeader;
+    private final Party responder;
+    private final String sourceHeader;
+
+    Scenario(String requestPath,
+             String responsePath,
+             Party requester,
+             String targetHeader,
+             Party responder,
+             String sourceHeader) {
+        this.requestPath = requestPath;
+        this.responsePath = responsePath;
+        this.requester = requester;
+        this.targetHeader = targetHeader;
+        this.responder = responder;
+        this.sourceHeader = sourceHeader;
+    }
+
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    public String getResponsePath() {
+        return responsePath;
+    }
+
+    public Party getRequester() {
+        return requester;
+    }
+
+    public String getTargetHeader() {
+        return targetHeader;
+    }
+
+    public Party getResponder() {
+        return responder;
+    }
+
+    public String getSourceHeader() {
+        return sourceHeader;
+    }
+
+    public enum Party {
+        CM("ncg", Role.CM),
+        HIP("10000005", Role.HIP),
+        HIU("10000010", Role.HIU);
+
+        private final String clientId;
+        private final Role role;
+
+        Party(String clientId, Role role) {
+            this.clientId = clientId;
+            this.role = role;
+        }
+
+        public String getClientId() {
+            return clientId;
+        }
+
+        public Role getRole() {
+            return role;
+        }
+    }
+}
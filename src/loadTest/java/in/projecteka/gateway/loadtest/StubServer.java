@@ -0,0 +1,132 @@
+package in.projecteka.gateway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static in.projecteka.gateway.common.Constants.REQUEST_ID;
+import static in.projecteka.gateway.common.Constants.TIMESTAMP;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public class StubServer {
+    private static final Logger logger = LoggerFactory.getLogger(StubServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StubTokens tokens;
+    private final DisposableServer server;
+    private volatile WebClient gateway;
+    private volatile LatencyRecorder recorder;
+
+    private StubServer(StubTokens tokens) {
+        this.tokens = tokens;
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> {
+                    routes.post("/realms/{realm}/protocol/openid-connect/token", this::token)
+                            .get("/realms/{realm}/protocol/openid-connect/certs", this::certs);
+                    for (Scenario scenario : Scenario.values()) {
+                        routes.post(scenario.getRequestPath(), (request, response) -> respond(scenario, request, response))
+                                .post(scenario.getResponsePath(), this::complete);
+                    }
+                })
+                .bindNow();
+    }
+
+    public static StubServer start(StubTokens tokens) {
+        return new StubServer(tokens);
+    }
+
+    public String url() {
+        return "http://localhost:" + server.port();
+    }
+
+    public void forwardTo(String gatewayUrl) {
+        gateway = WebClient.create(gatewayUrl);
+    }
+
+    public void record(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public void dispose() {
+        server.disposeNow();
+    }
+
+    private Mono<Void> token(HttpServerRequest request, HttpServerResponse response) {
+        var session = Map.of("access_token", tokens.gatewayToken(),
+                "expires_in", 3600,
+                "refresh_expires_in", 3600,
+                "refresh_token", UUID.randomUUID().toString(),
+                "token_type", "bearer");
+        return request.receive().then(json(response, session));
+    }
+
+    private Mono<Void> certs(HttpServerRequest request, HttpServerResponse response) {
+        return response.header(CONTENT_TYPE, APPLICATION_JSON_VALUE).sendString(Mono.just(tokens.certs())).then();
+    }
+
+    private Mono<Void> respond(Scenario scenario, HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asString()
+                .map(this::readTree)
+                .doOnNext(body -> callback(scenario, body.path(REQUEST_ID).asText()))
+                .then(response.status(HttpResponseStatus.ACCEPTED).send().then());
+    }
+
+    private Mono<Void> complete(HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asString()
+                .map(this::readTree)
+                .doOnNext(body -> recorder.completed(body.path("resp").path(REQUEST_ID).asText()))
+                .then(response.status(HttpResponseStatus.ACCEPTED).send().then());
+    }
+
+    private void callback(Scenario scenario, String gatewayRequestId) {
+        var responder = scenario.getResponder();
+        var body = Map.of(REQUEST_ID, UUID.randomUUID().toString(),
+                TIMESTAMP, LocalDateTime.now(ZoneOffset.UTC).toString(),
+                "resp", Map.of(REQUEST_ID, gatewayRequestId));
+        gateway.post()
+                .uri(scenario.getResponsePath())
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, tokens.bearer(responder.getClientId(), responder.getRole()))
+                .header(scenario.getSourceHeader(), scenario.getRequester().getClientId())
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .subscribe(entity -> { }, throwable -> logger.error("Callback to gateway failed", throwable));
+    }
+
+    private Mono<Void> json(HttpServerResponse response, Object body) {
+        try {
+            return response.header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just(objectMapper.writeValueAsString(body)))
+                    .then();
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package in.projecteka.gateway.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import in.projecteka.gateway.common.Role;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+public class StubTokens {
+    private static final String GATEWAY_CLIENT_ID = "gateway";
+
+    private final RSAKey rsaKey;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    public StubTokens() throws JOSEException {
+        rsaKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+    }
+
+    public String certs() {
+        return new JWKSet(rsaKey.toPublicJWK()).toString();
+    }
+
+    public String gatewayToken() {
+        return tokenFor(GATEWAY_CLIENT_ID, Role.GATEWAY);
+    }
+
+    public String bearer(String clientId, Role role) {
+        return "Bearer " + tokenFor(clientId, role);
+    }
+
+    private String tokenFor(String clientId, Role role) {
+        return tokens.computeIfAbsent(format("%s:%s", clientId, role), key -> sign(clientId, role));
+    }
+
+    private String sign(String clientId, Role role) {
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .subject(clientId)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .claim("scope", "openid")
+                .claim("clientId", clientId)
+                .claim("realm_access", Map.of("roles", List.of(role.name().toLowerCase())))
+                .build();
+        var header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .type(JOSEObjectType.JWT)
+                .keyID(rsaKey.getKeyID())
+                .build();
+        var jwt = new SignedJWT(header, claims);
+        try {
+            jwt.sign(new RSASSASigner(rsaKey));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+}
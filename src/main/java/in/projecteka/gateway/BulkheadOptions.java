@@ -0,0 +1,15 @@
+package in.projecteka.gateway;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConstructorBinding
+@ConfigurationProperties("webclient.bulkhead")
+@Getter
+@AllArgsConstructor
+public class BulkheadOptions {
+    private final int maxConcurrentCalls;
+    private final int maxPendingCalls;
+}
@@ -0,0 +1,21 @@
+package in.projecteka.gateway;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConstructorBinding
+@ConfigurationProperties("webclient.circuit-breaker")
+@Getter
+@AllArgsConstructor
+public class CircuitBreakerOptions {
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int waitDurationInOpenState;
+    private final int halfOpenProbes;
+    private final int timeoutPercentile;
+    private final int timeoutMargin;
+    private final int minTimeout;
+}
@@ -1,12 +1,20 @@
 package in.projecteka.gateway;
 
 import in.projecteka.gateway.clients.IdentityProperties;
+import in.projecteka.gateway.clients.JwksProperties;
+import in.projecteka.gateway.common.ConsumerOptions;
+import in.projecteka.gateway.common.OffloadOptions;
+import in.projecteka.gateway.common.PublisherOptions;
+import in.projecteka.gateway.common.RetryLadderOptions;
 import in.projecteka.gateway.common.ShareProfile;
+import in.projecteka.gateway.common.TokenRefreshOptions;
 import in.projecteka.gateway.common.cache.RedisOptions;
 import in.projecteka.gateway.common.cache.ServiceOptions;
 import in.projecteka.gateway.common.heartbeat.RabbitmqOptions;
 import in.projecteka.gateway.common.heartbeat.CacheMethodProperty;
+import in.projecteka.gateway.parkinglot.ParkingLotOptions;
 import in.projecteka.gateway.registry.FacilityRegistryProperties;
+import in.projecteka.gateway.registry.RegistrySnapshotOptions;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -15,12 +23,22 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @EnableConfigurationProperties({RedisOptions.class,
         ServiceOptions.class,
         IdentityProperties.class,
+        JwksProperties.class,
         RabbitmqOptions.class,
 		    DbOptions.class,
         WebClientOptions.class,
+        BulkheadOptions.class,
+        CircuitBreakerOptions.class,
         CacheMethodProperty.class,
         ShareProfile.class,
-        FacilityRegistryProperties.class})
+        FacilityRegistryProperties.class,
+        OffloadOptions.class,
+        ConsumerOptions.class,
+        RetryLadderOptions.class,
+        PublisherOptions.class,
+        ParkingLotOptions.class,
+        RegistrySnapshotOptions.class,
+        TokenRefreshOptions.class})
 public class GatewayApplication {
     public static void main(String[] args) {
         SpringApplication.run(GatewayApplication.class, args);
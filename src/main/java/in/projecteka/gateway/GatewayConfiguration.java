@@ -31,42 +31,67 @@ import in.projecteka.gateway.clients.LinkConfirmServiceClient;
 import in.projecteka.gateway.clients.LinkInitServiceClient;
 import in.projecteka.gateway.clients.PatientSearchServiceClient;
 import in.projecteka.gateway.clients.PatientServiceClient;
+import in.projecteka.gateway.clients.PerHostClientHttpConnector;
 import in.projecteka.gateway.clients.SubscriptionRequestNotifyServiceClient;
 import in.projecteka.gateway.clients.SubscriptionRequestServiceClient;
+import in.projecteka.gateway.clients.TargetBulkhead;
+import in.projecteka.gateway.clients.TargetCircuitBreaker;
 import in.projecteka.gateway.clients.UserAuthenticatorClient;
+import in.projecteka.gateway.common.ConfirmedPublisher;
+import in.projecteka.gateway.common.ConsumerOptions;
 import in.projecteka.gateway.common.DefaultValidatedRequestAction;
 import in.projecteka.gateway.common.DefaultValidatedResponseAction;
 import in.projecteka.gateway.common.IdentityService;
 import in.projecteka.gateway.common.MappingRepository;
 import in.projecteka.gateway.common.MappingService;
+import in.projecteka.gateway.common.OffloadOptions;
+import in.projecteka.gateway.common.OffloadScheduler;
+import in.projecteka.gateway.common.PayloadFormat;
+import in.projecteka.gateway.common.PublisherOptions;
+import in.projecteka.gateway.common.QueuePayloadCodec;
 import in.projecteka.gateway.common.RedundantRequestValidator;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
+import in.projecteka.gateway.common.RetryLadder;
+import in.projecteka.gateway.common.RetryLadderOptions;
 import in.projecteka.gateway.common.RetryableValidatedRequestAction;
 import in.projecteka.gateway.common.RetryableValidatedResponseAction;
+import in.projecteka.gateway.common.TokenRefreshOptions;
+import in.projecteka.gateway.common.TokenRefresher;
 import in.projecteka.gateway.common.Validator;
 import in.projecteka.gateway.common.cache.CacheAdapter;
 import in.projecteka.gateway.common.cache.LoadingCacheAdapter;
 import in.projecteka.gateway.common.cache.RedisCacheAdapter;
 import in.projecteka.gateway.common.cache.RedisOptions;
 import in.projecteka.gateway.common.cache.ServiceOptions;
+import in.projecteka.gateway.common.cache.TieredCacheAdapter;
 import in.projecteka.gateway.common.heartbeat.CacheHealth;
 import in.projecteka.gateway.common.heartbeat.CacheMethodProperty;
 import in.projecteka.gateway.common.heartbeat.Heartbeat;
 import in.projecteka.gateway.common.heartbeat.RabbitmqOptions;
+import in.projecteka.gateway.parkinglot.ParkingLotOptions;
+import in.projecteka.gateway.parkinglot.ParkingLotService;
+import in.projecteka.gateway.parkinglot.RedriveRoute;
 import in.projecteka.gateway.registry.BridgeRegistry;
 import in.projecteka.gateway.registry.CMRegistry;
 import in.projecteka.gateway.registry.FacilityRegistryProperties;
 import in.projecteka.gateway.registry.RegistryRepository;
+import in.projecteka.gateway.registry.RegistrySnapshotEngine;
+import in.projecteka.gateway.registry.RegistrySnapshotOptions;
+import in.projecteka.gateway.registry.RegistrySnapshotRepository;
 import in.projecteka.gateway.registry.RegistryService;
 import in.projecteka.gateway.registry.ServiceType;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.SocketOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Vertx;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
+import io.vertx.pgclient.pubsub.PgSubscriber;
 import io.vertx.sqlclient.PoolOptions;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -89,6 +114,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.WebFilter;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.rabbitmq.ChannelPoolFactory;
@@ -98,6 +124,8 @@ import reactor.rabbitmq.ReceiverOptions;
 import reactor.rabbitmq.SenderOptions;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
@@ -135,9 +163,10 @@ public class GatewayConfiguration {
             @Qualifier("Lettuce") RedisClient redisClient,
             RedisOptions redisOptions,
             IdentityProperties identityProperties) {
-        return new RedisCacheAdapter(redisClient,
+        return redisCacheAdapter(redisClient,
+                redisOptions,
                 identityProperties.getAccessTokenExpiryInMinutes(),
-                redisOptions.getRetry());
+                "accessToken");
     }
 
     @ConditionalOnProperty(value = "gateway.cacheMethod", havingValue = "guava", matchIfMissing = true)
@@ -152,16 +181,33 @@ public class GatewayConfiguration {
             @Qualifier("Lettuce") RedisClient redisClient,
             RedisOptions redisOptions,
             FacilityRegistryProperties facilityRegistryProperties) {
-        return new RedisCacheAdapter(redisClient,
+        return redisCacheAdapter(redisClient,
+                redisOptions,
                 facilityRegistryProperties.getTokenExpiry(),
-                redisOptions.getRetry());
+                "facilityTokenCache");
     }
 
     @ConditionalOnProperty(value = "gateway.cacheMethod", havingValue = "redis")
     @Bean({"requestIdMappings", "requestIdTimestampMappings"})
     public CacheAdapter<String, String> createRedisCacheAdapter(@Qualifier("Lettuce") RedisClient redisClient,
                                                                 RedisOptions redisOptions) {
-        return new RedisCacheAdapter(redisClient, redisOptions.getExpiry(), redisOptions.getRetry());
+        return redisCacheAdapter(redisClient, redisOptions, redisOptions.getExpiry(), "requestIdMappings");
+    }
+
+    private CacheAdapter<String, String> redisCacheAdapter(RedisClient redisClient,
+                                                           RedisOptions redisOptions,
+                                                           int expirationInMinutes,
+                                                           String cacheName) {
+        var redisCacheAdapter = new RedisCacheAdapter(redisClient, expirationInMinutes, redisOptions.getRetry());
+        if (!redisOptions.isNearCacheEnabled()) {
+            return redisCacheAdapter;
+        }
+        var nearCacheExpiry = Duration.ofSeconds(Math.min(redisOptions.getNearCacheExpiry(), expirationInMinutes * 60L));
+        return new TieredCacheAdapter(redisCacheAdapter,
+                redisClient,
+                redisOptions.getRootNamespace() + ":invalidations:" + cacheName,
+                redisOptions.getNearCacheMaximumSize(),
+                nearCacheExpiry);
     }
 
     @ConditionalOnProperty(value = "gateway.cacheMethod", havingValue = "redis")
@@ -241,15 +287,53 @@ public class GatewayConfiguration {
                 });
     }
 
+    @Bean({"unknownConsentManagers"})
+    public CacheAdapter<String, String> createNegativeCacheForCMMappings(
+            @Value("${gateway.negativeCacheExpiry}") int expiry,
+            @Value("${gateway.negativeCacheMaximumSize}") int maximumSize) {
+        return new LoadingCacheAdapter<>(createNegativeCache(expiry, maximumSize));
+    }
+
+    @Bean({"unknownBridges"})
+    public CacheAdapter<Pair<String, ServiceType>, String> createNegativeCacheForBridgeMappings(
+            @Value("${gateway.negativeCacheExpiry}") int expiry,
+            @Value("${gateway.negativeCacheMaximumSize}") int maximumSize) {
+        return new LoadingCacheAdapter<>(createNegativeCache(expiry, maximumSize));
+    }
+
+    public <K> LoadingCache<K, String> createNegativeCache(int duration, int maximumSize) {
+        return CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(duration, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .build(new CacheLoader<>() {
+                    public String load(K key) {
+                        return "";
+                    }
+                });
+    }
+
     @Bean
-    public CMRegistry cmRegistry(CacheAdapter<String, String> consentManagerMappings, MappingRepository mappingRepository) {
-        return new CMRegistry(consentManagerMappings, mappingRepository);
+    public CMRegistry cmRegistry(CacheAdapter<String, String> consentManagerMappings,
+                                 @Qualifier("unknownConsentManagers") CacheAdapter<String, String> unknownConsentManagers,
+                                 MappingRepository mappingRepository,
+                                 ObjectProvider<RegistrySnapshotEngine> registrySnapshotEngine) {
+        return new CMRegistry(consentManagerMappings,
+                unknownConsentManagers,
+                mappingRepository,
+                registrySnapshotEngine.getIfAvailable());
     }
 
     @Bean
-    public BridgeRegistry bridgeRegistry(CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings,
-                                         MappingRepository mappingRepository) {
-        return new BridgeRegistry(bridgeMappings, mappingRepository);
+    public BridgeRegistry bridgeRegistry(
+            @Qualifier("bridgeMappings") CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings,
+            @Qualifier("unknownBridges") CacheAdapter<Pair<String, ServiceType>, String> unknownBridges,
+            MappingRepository mappingRepository,
+            ObjectProvider<RegistrySnapshotEngine> registrySnapshotEngine) {
+        return new BridgeRegistry(bridgeMappings,
+                unknownBridges,
+                mappingRepository,
+                registrySnapshotEngine.getIfAvailable());
     }
 
     @Bean
@@ -257,6 +341,13 @@ public class GatewayConfiguration {
         return new MappingService(mappingRepository);
     }
 
+    @Bean(destroyMethod = "close")
+    public OffloadScheduler offloadScheduler(OffloadOptions offloadOptions, MeterRegistry meterRegistry) {
+        return new OffloadScheduler(offloadOptions,
+                Schedulers.newParallel("gateway-offload", offloadOptions.getThreads()),
+                meterRegistry);
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         return new ObjectMapper()
@@ -286,12 +377,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             DiscoveryServiceClient discoveryServiceClient,
-            DefaultValidatedRequestAction<DiscoveryServiceClient> discoveryRequestAction) {
+            DefaultValidatedRequestAction<DiscoveryServiceClient> discoveryRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 discoveryServiceClient,
-                discoveryRequestAction);
+                discoveryRequestAction,
+                offloadScheduler);
     }
 
     @Bean("discoveryResponseAction")
@@ -303,16 +396,22 @@ public class GatewayConfiguration {
     @Bean("discoveryResponseOrchestrator")
     public ResponseOrchestrator discoveryResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<DiscoveryServiceClient> discoveryResponseAction) {
-        return new ResponseOrchestrator(validator, discoveryResponseAction);
+            DefaultValidatedResponseAction<DiscoveryServiceClient> discoveryResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, discoveryResponseAction, offloadScheduler);
     }
 
     @Bean
     public Validator validator(BridgeRegistry bridgeRegistry,
                                CMRegistry cmRegistry,
                                @Qualifier("requestIdMappings") CacheAdapter<String, String> requestIdMappings,
-                               RedundantRequestValidator redundantRequestValidator) {
-        return new Validator(bridgeRegistry, cmRegistry, requestIdMappings, redundantRequestValidator);
+                               RedundantRequestValidator redundantRequestValidator,
+                               ServiceOptions serviceOptions) {
+        return new Validator(bridgeRegistry,
+                cmRegistry,
+                requestIdMappings,
+                redundantRequestValidator,
+                serviceOptions.isPassThrough());
     }
 
     @Bean("linkInitServiceClient")
@@ -336,12 +435,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             LinkInitServiceClient linkInitServiceClient,
-            DefaultValidatedRequestAction<LinkInitServiceClient> linkInitRequestAction) {
+            DefaultValidatedRequestAction<LinkInitServiceClient> linkInitRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 linkInitServiceClient,
-                linkInitRequestAction);
+                linkInitRequestAction,
+                offloadScheduler);
     }
 
     @Bean("linkInitResponseAction")
@@ -353,8 +454,9 @@ public class GatewayConfiguration {
     @Bean("linkInitResponseOrchestrator")
     public ResponseOrchestrator linkInitResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<LinkInitServiceClient> linkInitResponseAction) {
-        return new ResponseOrchestrator(validator, linkInitResponseAction);
+            DefaultValidatedResponseAction<LinkInitServiceClient> linkInitResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, linkInitResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -379,12 +481,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             LinkConfirmServiceClient linkConfirmServiceClient,
-            DefaultValidatedRequestAction<LinkConfirmServiceClient> linkConfirmRequestAction) {
+            DefaultValidatedRequestAction<LinkConfirmServiceClient> linkConfirmRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 linkConfirmServiceClient,
-                linkConfirmRequestAction);
+                linkConfirmRequestAction,
+                offloadScheduler);
     }
 
     @Bean("linkConfirmResponseAction")
@@ -397,13 +501,18 @@ public class GatewayConfiguration {
     public RetryableValidatedResponseAction<LinkConfirmServiceClient> retryableLinkResponseAction(
             DefaultValidatedResponseAction<LinkConfirmServiceClient> linkConfirmResponseAction,
             ReceiverOptions receiverOptions,
-            SenderOptions senderOptions,
-            ServiceOptions serviceOptions) {
+            ConfirmedPublisher confirmedPublisher,
+            ServiceOptions serviceOptions,
+            ConsumerOptions consumerOptions,
+            RetryLadderOptions retryLadderOptions,
+            QueuePayloadCodec queuePayloadCodec) {
         return new RetryableValidatedResponseAction<>(
                 RabbitFlux.createReceiver(receiverOptions),
-                RabbitFlux.createSender(senderOptions),
+                confirmedPublisher,
                 linkConfirmResponseAction,
-                serviceOptions,
+                consumerOptions,
+                new RetryLadder(confirmedPublisher, serviceOptions, retryLadderOptions),
+                queuePayloadCodec,
                 GW_LINK_QUEUE,
                 X_CM_ID);
     }
@@ -412,8 +521,9 @@ public class GatewayConfiguration {
     @Bean("linkConfirmResponseOrchestrator")
     public ResponseOrchestrator linkConfirmResponseOrchestrator(
             Validator validator,
-            RetryableValidatedResponseAction<LinkConfirmServiceClient> retryableLinkConfirmResponseAction) {
-        return new ResponseOrchestrator(validator, retryableLinkConfirmResponseAction);
+            RetryableValidatedResponseAction<LinkConfirmServiceClient> retryableLinkConfirmResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, retryableLinkConfirmResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -459,12 +569,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             ConsentRequestServiceClient consentRequestServiceClient,
-            DefaultValidatedRequestAction<ConsentRequestServiceClient> consentRequestAction) {
+            DefaultValidatedRequestAction<ConsentRequestServiceClient> consentRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 consentRequestServiceClient,
-                consentRequestAction);
+                consentRequestAction,
+                offloadScheduler);
     }
 
     @Bean("consentFetchRequestAction")
@@ -479,12 +591,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             ConsentFetchServiceClient consentFetchServiceClient,
-            DefaultValidatedRequestAction<ConsentFetchServiceClient> consentRequestAction) {
+            DefaultValidatedRequestAction<ConsentFetchServiceClient> consentRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 consentFetchServiceClient,
-                consentRequestAction);
+                consentRequestAction,
+                offloadScheduler);
     }
 
     @Bean("consentFetchResponseAction")
@@ -496,8 +610,9 @@ public class GatewayConfiguration {
     @Bean("consentFetchResponseOrchestrator")
     public ResponseOrchestrator consentFetchResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<ConsentFetchServiceClient> consentFetchResponseAction) {
-        return new ResponseOrchestrator(validator, consentFetchResponseAction);
+            DefaultValidatedResponseAction<ConsentFetchServiceClient> consentFetchResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, consentFetchResponseAction, offloadScheduler);
     }
 
     @Bean("consentStatusRequestAction")
@@ -512,12 +627,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             ConsentStatusServiceClient consentStatusServiceClient,
-            DefaultValidatedRequestAction<ConsentStatusServiceClient> consentStatusRequestAction) {
+            DefaultValidatedRequestAction<ConsentStatusServiceClient> consentStatusRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 consentStatusServiceClient,
-                consentStatusRequestAction);
+                consentStatusRequestAction,
+                offloadScheduler);
     }
 
     @Bean("consentStatusResponseAction")
@@ -529,8 +646,9 @@ public class GatewayConfiguration {
     @Bean("consentStatusResponseOrchestrator")
     public ResponseOrchestrator consentStatusResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<ConsentStatusServiceClient> consentStatusResponseAction) {
-        return new ResponseOrchestrator(validator, consentStatusResponseAction);
+            DefaultValidatedResponseAction<ConsentStatusServiceClient> consentStatusResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, consentStatusResponseAction, offloadScheduler);
     }
 
     @Bean("patientSearchRequestAction")
@@ -545,12 +663,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             PatientSearchServiceClient patientSearchServiceClient,
-            DefaultValidatedRequestAction<PatientSearchServiceClient> patientSearchRequestAction) {
+            DefaultValidatedRequestAction<PatientSearchServiceClient> patientSearchRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 patientSearchServiceClient,
-                patientSearchRequestAction);
+                patientSearchRequestAction,
+                offloadScheduler);
     }
 
     @Bean
@@ -560,11 +680,18 @@ public class GatewayConfiguration {
         return new IdentityServiceClient(builder, identityProperties.getUrl(), identityProperties.getRealm());
     }
 
+    @Bean(destroyMethod = "close")
+    public TokenRefresher accessTokenRefresher(@Qualifier("accessToken") CacheAdapter<String, String> accessToken,
+                                               TokenRefreshOptions tokenRefreshOptions,
+                                               MeterRegistry meterRegistry) {
+        return new TokenRefresher("gateway", accessToken, tokenRefreshOptions, Schedulers.parallel(), meterRegistry);
+    }
+
     @Bean
     public IdentityService centralRegistry(IdentityProperties identityProperties,
                                            IdentityServiceClient identityServiceClient,
-                                           @Qualifier("accessToken") CacheAdapter<String, String> accessToken) {
-        return new IdentityService(identityServiceClient, identityProperties, accessToken);
+                                           @Qualifier("accessTokenRefresher") TokenRefresher accessTokenRefresher) {
+        return new IdentityService(identityServiceClient, identityProperties, accessTokenRefresher);
     }
 
     @Bean
@@ -589,12 +716,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HipConsentNotifyServiceClient hipConsentNotifyServiceClient,
-            DefaultValidatedRequestAction<HipConsentNotifyServiceClient> hipConsentNotifyRequestAction) {
+            DefaultValidatedRequestAction<HipConsentNotifyServiceClient> hipConsentNotifyRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 hipConsentNotifyServiceClient,
-                hipConsentNotifyRequestAction);
+                hipConsentNotifyRequestAction,
+                offloadScheduler);
     }
 
     @Bean
@@ -619,12 +748,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HiuConsentNotifyServiceClient hiuConsentNotifyServiceClient,
-            DefaultValidatedRequestAction<HiuConsentNotifyServiceClient> hiuConsentNotifyRequestAction) {
+            DefaultValidatedRequestAction<HiuConsentNotifyServiceClient> hiuConsentNotifyRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 hiuConsentNotifyServiceClient,
-                hiuConsentNotifyRequestAction);
+                hiuConsentNotifyRequestAction,
+                offloadScheduler);
     }
 
     @Bean("consentResponseAction")
@@ -636,8 +767,9 @@ public class GatewayConfiguration {
     @Bean("consentResponseOrchestrator")
     public ResponseOrchestrator consentResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<ConsentRequestServiceClient> consentResponseAction) {
-        return new ResponseOrchestrator(validator, consentResponseAction);
+            DefaultValidatedResponseAction<ConsentRequestServiceClient> consentResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, consentResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -662,12 +794,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             SubscriptionRequestServiceClient subscriptionRequestServiceClient,
-            DefaultValidatedRequestAction<SubscriptionRequestServiceClient> subscriptionRequestAction) {
+            DefaultValidatedRequestAction<SubscriptionRequestServiceClient> subscriptionRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 subscriptionRequestServiceClient,
-                subscriptionRequestAction);
+                subscriptionRequestAction,
+                offloadScheduler);
     }
 
     @Bean("subscriptionResponseAction")
@@ -679,8 +813,9 @@ public class GatewayConfiguration {
     @Bean("subscriptionResponseOrchestrator")
     public ResponseOrchestrator subscriptionResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<SubscriptionRequestServiceClient> subscriptionResponseAction) {
-        return new ResponseOrchestrator(validator, subscriptionResponseAction);
+            DefaultValidatedResponseAction<SubscriptionRequestServiceClient> subscriptionResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, subscriptionResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -705,12 +840,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             SubscriptionRequestNotifyServiceClient subscriptionRequestNotifyServiceClient,
-            DefaultValidatedRequestAction<SubscriptionRequestNotifyServiceClient> subscriptionRequestNotifyAction) {
+            DefaultValidatedRequestAction<SubscriptionRequestNotifyServiceClient> subscriptionRequestNotifyAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 subscriptionRequestNotifyServiceClient,
-                subscriptionRequestNotifyAction);
+                subscriptionRequestNotifyAction,
+                offloadScheduler);
     }
 
     @Bean("subscriptionRequestNotifyResponseAction")
@@ -722,8 +859,9 @@ public class GatewayConfiguration {
     @Bean("subscriptionRequestNotifyResponseOrchestrator")
     public ResponseOrchestrator subscriptionRequestNotifyResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<SubscriptionRequestNotifyServiceClient> subscriptionRequestNotifyResponseAction) {
-        return new ResponseOrchestrator(validator, subscriptionRequestNotifyResponseAction);
+            DefaultValidatedResponseAction<SubscriptionRequestNotifyServiceClient> subscriptionRequestNotifyResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, subscriptionRequestNotifyResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -745,8 +883,9 @@ public class GatewayConfiguration {
     @Bean("patientSearchResponseOrchestrator")
     public ResponseOrchestrator patientSearchResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<PatientSearchServiceClient> patientSearchResponseAction) {
-        return new ResponseOrchestrator(validator, patientSearchResponseAction);
+            DefaultValidatedResponseAction<PatientSearchServiceClient> patientSearchResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, patientSearchResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -771,12 +910,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             DataFlowRequestServiceClient dataFlowRequestServiceClient,
-            DefaultValidatedRequestAction<DataFlowRequestServiceClient> dataflowRequestAction) {
+            DefaultValidatedRequestAction<DataFlowRequestServiceClient> dataflowRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 dataFlowRequestServiceClient,
-                dataflowRequestAction);
+                dataflowRequestAction,
+                offloadScheduler);
     }
 
     @Bean("dataFlowRequestResponseAction")
@@ -788,8 +929,9 @@ public class GatewayConfiguration {
     @Bean("dataFlowRequestResponseOrchestrator")
     public ResponseOrchestrator dataFlowRequestResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<DataFlowRequestServiceClient> dataFlowRequestResponseAction) {
-        return new ResponseOrchestrator(validator, dataFlowRequestResponseAction);
+            DefaultValidatedResponseAction<DataFlowRequestServiceClient> dataFlowRequestResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, dataFlowRequestResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -813,12 +955,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HealthInfoNotificationServiceClient healthInfoNotificationServiceClient,
-            DefaultValidatedRequestAction<HealthInfoNotificationServiceClient> healthInfoNotificationRequestAction) {
+            DefaultValidatedRequestAction<HealthInfoNotificationServiceClient> healthInfoNotificationRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 healthInfoNotificationServiceClient,
-                healthInfoNotificationRequestAction);
+                healthInfoNotificationRequestAction,
+                offloadScheduler);
     }
 
     @Bean
@@ -840,12 +984,17 @@ public class GatewayConfiguration {
     public RetryableValidatedRequestAction<HipDataFlowServiceClient> hipDataflowRequestAction(
             DefaultValidatedRequestAction<HipDataFlowServiceClient> defaultHipDataflowRequestAction,
             ReceiverOptions receiverOptions,
-            SenderOptions senderOptions,
-            ServiceOptions serviceOptions) {
+            ConfirmedPublisher confirmedPublisher,
+            ServiceOptions serviceOptions,
+            ConsumerOptions consumerOptions,
+            RetryLadderOptions retryLadderOptions,
+            QueuePayloadCodec queuePayloadCodec) {
         return new RetryableValidatedRequestAction<>(RabbitFlux.createReceiver(receiverOptions),
-                RabbitFlux.createSender(senderOptions),
+                confirmedPublisher,
                 defaultHipDataflowRequestAction,
-                serviceOptions,
+                consumerOptions,
+                new RetryLadder(confirmedPublisher, serviceOptions, retryLadderOptions),
+                queuePayloadCodec,
                 GW_DATAFLOW_QUEUE,
                 X_HIP_ID);
     }
@@ -856,12 +1005,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HipDataFlowServiceClient hipDataFlowServiceClient,
-            RetryableValidatedRequestAction<HipDataFlowServiceClient> hipDataflowRequestAction) {
+            RetryableValidatedRequestAction<HipDataFlowServiceClient> hipDataflowRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 hipDataFlowServiceClient,
-                hipDataflowRequestAction);
+                hipDataflowRequestAction,
+                offloadScheduler);
     }
 
     @Bean
@@ -886,12 +1037,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             AuthConfirmServiceClient authConfirmServiceClient,
-            DefaultValidatedRequestAction<AuthConfirmServiceClient> authConfirmRequestAction) {
+            DefaultValidatedRequestAction<AuthConfirmServiceClient> authConfirmRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 authConfirmServiceClient,
-                authConfirmRequestAction);
+                authConfirmRequestAction,
+                offloadScheduler);
     }
 
     @Bean("authConfirmResponseAction")
@@ -903,8 +1056,9 @@ public class GatewayConfiguration {
     @Bean("authConfirmResponseOrchestrator")
     public ResponseOrchestrator authConfirmResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<AuthConfirmServiceClient> authConfirmResponseAction) {
-        return new ResponseOrchestrator(validator, authConfirmResponseAction);
+            DefaultValidatedResponseAction<AuthConfirmServiceClient> authConfirmResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, authConfirmResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -918,6 +1072,20 @@ public class GatewayConfiguration {
         return connectionFactory;
     }
 
+    @Bean
+    public ParkingLotService parkingLotService(
+            ConnectionFactory connectionFactory,
+            DefaultValidatedResponseAction<LinkConfirmServiceClient> linkConfirmResponseAction,
+            DefaultValidatedRequestAction<HipDataFlowServiceClient> defaultHipDataflowRequestAction,
+            ParkingLotOptions parkingLotOptions,
+            QueuePayloadCodec queuePayloadCodec) {
+        return new ParkingLotService(connectionFactory,
+                Map.of(GW_LINK_QUEUE, RedriveRoute.forResponses(X_CM_ID, linkConfirmResponseAction),
+                        GW_DATAFLOW_QUEUE, RedriveRoute.forRequests(X_HIP_ID, defaultHipDataflowRequestAction)),
+                parkingLotOptions,
+                queuePayloadCodec);
+    }
+
     @Bean
     public ReceiverOptions receiverOptions(ConnectionFactory connectionFactory){
         return new ReceiverOptions()
@@ -937,6 +1105,18 @@ public class GatewayConfiguration {
                 .resourceManagementScheduler(Schedulers.elastic());
     }
 
+    @Bean
+    public QueuePayloadCodec queuePayloadCodec(@Value("${gateway.queuePayloadFormat}") PayloadFormat payloadFormat) {
+        return new QueuePayloadCodec(payloadFormat);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ConfirmedPublisher confirmedPublisher(SenderOptions senderOptions,
+                                                 PublisherOptions publisherOptions,
+                                                 MeterRegistry meterRegistry) {
+        return new ConfirmedPublisher(RabbitFlux.createSender(senderOptions), publisherOptions, meterRegistry);
+    }
+
     @Bean("hipDataFlowRequestResponseAction")
     public DefaultValidatedResponseAction<HipDataFlowServiceClient> hipDataFlowRequestResponseAction(
             HipDataFlowServiceClient hipDataFlowServiceClient) {
@@ -946,8 +1126,9 @@ public class GatewayConfiguration {
     @Bean("hipDataFlowRequestResponseOrchestrator")
     public ResponseOrchestrator hipDataFlowRequestResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<HipDataFlowServiceClient> hipDataFlowRequestResponseAction) {
-        return new ResponseOrchestrator(validator, hipDataFlowRequestResponseAction);
+            DefaultValidatedResponseAction<HipDataFlowServiceClient> hipDataFlowRequestResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, hipDataFlowRequestResponseAction, offloadScheduler);
     }
 
     @Bean("hipConsentNotifyResponseAction")
@@ -965,15 +1146,17 @@ public class GatewayConfiguration {
     @Bean("hipConsentNotifyResponseOrchestrator")
     public ResponseOrchestrator hipConsentNotifyResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<HipConsentNotifyServiceClient> hipConsentNotifyResponseAction) {
-        return new ResponseOrchestrator(validator, hipConsentNotifyResponseAction);
+            DefaultValidatedResponseAction<HipConsentNotifyServiceClient> hipConsentNotifyResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, hipConsentNotifyResponseAction, offloadScheduler);
     }
 
     @Bean("hiuConsentNotifyResponseOrchestrator")
     public ResponseOrchestrator hiuConsentNotifyResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<HiuConsentNotifyServiceClient> hiuConsentNotifyResponseAction) {
-        return new ResponseOrchestrator(validator, hiuConsentNotifyResponseAction);
+            DefaultValidatedResponseAction<HiuConsentNotifyServiceClient> hiuConsentNotifyResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, hiuConsentNotifyResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -992,25 +1175,60 @@ public class GatewayConfiguration {
     @Bean("gatewayHttpConnector")
     @ConditionalOnProperty(value = "webclient.use-connection-pool", havingValue = "true")
     public ClientHttpConnector pooledClientHttpConnector(WebClientOptions webClientOptions) {
-        return new ReactorClientHttpConnector(
+        var defaultConnector = new ReactorClientHttpConnector(
                 HttpClient.create(
                         ConnectionProvider.builder("gateway-http-connection-pool")
                                 .maxConnections(webClientOptions.getPoolSize())
+                                .pendingAcquireMaxCount(webClientOptions.getPendingAcquireMaxCount())
                                 .maxLifeTime(Duration.ofMinutes(webClientOptions.getMaxLifeTime()))
                                 .maxIdleTime(Duration.ofMinutes(webClientOptions.getMaxIdleTimeout()))
+                                .metrics(true)
                                 .build()
                 )
         );
+        var hostConnectors = new HashMap<String, ClientHttpConnector>();
+        for (var hostOptions : webClientOptions.getHosts()) {
+            var hostKey = PerHostClientHttpConnector.hostKey(hostOptions.getHost(), hostOptions.getPort());
+            var connectionProvider = ConnectionProvider.builder("gateway-http-connection-pool-" + hostKey)
+                    .maxConnections(hostOptions.getPoolSize())
+                    .pendingAcquireMaxCount(hostOptions.getPendingAcquireMaxCount())
+                    .maxLifeTime(Duration.ofMinutes(webClientOptions.getMaxLifeTime()))
+                    .maxIdleTime(Duration.ofMinutes(hostOptions.getMaxIdleTimeout()))
+                    .metrics(true)
+                    .build();
+            var protocols = hostOptions.getProtocols().toArray(HttpProtocol[]::new);
+            var httpClient = HttpClient.create(connectionProvider).protocol(protocols);
+            if (hostOptions.getProtocols().contains(HttpProtocol.H2)) {
+                httpClient = httpClient.secure();
+            }
+            hostConnectors.put(hostKey, new ReactorClientHttpConnector(httpClient));
+        }
+        return new PerHostClientHttpConnector(defaultConnector, hostConnectors);
+    }
+
+    @Bean
+    public TargetBulkhead targetBulkhead(BulkheadOptions bulkheadOptions) {
+        return new TargetBulkhead(bulkheadOptions.getMaxConcurrentCalls(), bulkheadOptions.getMaxPendingCalls());
+    }
+
+    @Bean
+    public TargetCircuitBreaker targetCircuitBreaker(CircuitBreakerOptions circuitBreakerOptions,
+                                                     ServiceOptions serviceOptions) {
+        return new TargetCircuitBreaker(circuitBreakerOptions, Duration.ofSeconds(serviceOptions.getTimeout()));
     }
 
     @Bean("customBuilder")
     public WebClient.Builder webClient(
             @Qualifier("gatewayHttpConnector") final ClientHttpConnector clientHttpConnector,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            TargetBulkhead targetBulkhead,
+            TargetCircuitBreaker targetCircuitBreaker) {
         return WebClient
                 .builder()
                 .exchangeStrategies(exchangeStrategies(objectMapper))
                 .clientConnector(clientHttpConnector)
+                .filter(targetBulkhead)
+                .filter(targetCircuitBreaker)
                 .codecs(configurer -> configurer
                         .defaultCodecs()
                         .maxInMemorySize(maxInMemorySize));
@@ -1058,6 +1276,31 @@ public class GatewayConfiguration {
         return new MappingRepository(readOnlyClient);
     }
 
+    @ConditionalOnProperty(value = "gateway.registry-snapshot.enabled", havingValue = "true")
+    @Bean(destroyMethod = "close")
+    public Vertx registrySnapshotVertx() {
+        return Vertx.vertx();
+    }
+
+    @ConditionalOnProperty(value = "gateway.registry-snapshot.enabled", havingValue = "true")
+    @Bean
+    public RegistrySnapshotEngine registrySnapshotEngine(@Qualifier("readWriteClient") PgPool readWriteClient,
+                                                         @Qualifier("registrySnapshotVertx") Vertx vertx,
+                                                         DbOptions dbOptions,
+                                                         RegistrySnapshotOptions registrySnapshotOptions) {
+        PgConnectOptions connectOptions = new PgConnectOptions()
+                .setPort(dbOptions.getPort())
+                .setHost(dbOptions.getHost())
+                .setDatabase(dbOptions.getSchema())
+                .setUser(dbOptions.getUser())
+                .setPassword(dbOptions.getPassword());
+        var subscriber = PgSubscriber.subscriber(vertx, connectOptions)
+                .reconnectPolicy(retries -> 1000L);
+        return new RegistrySnapshotEngine(new RegistrySnapshotRepository(readWriteClient),
+                subscriber,
+                registrySnapshotOptions);
+    }
+
     @Bean
     public RedundantRequestValidator redundantRequestValidator(
             @Qualifier("requestIdTimestampMappings") CacheAdapter<String, String> requestIdTimestampMappings,
@@ -1088,10 +1331,21 @@ public class GatewayConfiguration {
     @Bean
     public RegistryService registryService(RegistryRepository registryRepository,
                                            CacheAdapter<String, String> consentManagerMappings,
-                                           CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings,
+                                           @Qualifier("bridgeMappings")
+                                                   CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings,
+                                           @Qualifier("unknownConsentManagers")
+                                                   CacheAdapter<String, String> unknownConsentManagers,
+                                           @Qualifier("unknownBridges")
+                                                   CacheAdapter<Pair<String, ServiceType>, String> unknownBridges,
                                            AdminServiceClient adminServiceClient,
                                            FacilityRegistryClient facilityRegistryClient) {
-        return new RegistryService(registryRepository, consentManagerMappings, bridgeMappings, adminServiceClient, facilityRegistryClient);
+        return new RegistryService(registryRepository,
+                consentManagerMappings,
+                bridgeMappings,
+                unknownConsentManagers,
+                unknownBridges,
+                adminServiceClient,
+                facilityRegistryClient);
     }
 
     @Bean("userAuthenticatorClient")
@@ -1115,12 +1369,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             UserAuthenticatorClient userAuthenticatorClient,
-            DefaultValidatedRequestAction<UserAuthenticatorClient> userAuthenticationRequestAction) {
+            DefaultValidatedRequestAction<UserAuthenticatorClient> userAuthenticationRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 userAuthenticatorClient,
-                userAuthenticationRequestAction);
+                userAuthenticationRequestAction,
+                offloadScheduler);
     }
 
     @Bean("userAuthenticationResponseAction")
@@ -1132,8 +1388,9 @@ public class GatewayConfiguration {
     @Bean("userAuthenticationResponseOrchestrator")
     public ResponseOrchestrator userAuthenticationResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<UserAuthenticatorClient> userAuthenticationResponseAction) {
-        return new ResponseOrchestrator(validator, userAuthenticationResponseAction);
+            DefaultValidatedResponseAction<UserAuthenticatorClient> userAuthenticationResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, userAuthenticationResponseAction, offloadScheduler);
     }
 
     @Bean("hipInitLinkServiceClient")
@@ -1157,12 +1414,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HipInitLinkServiceClient hipInitLinkServiceClient,
-            DefaultValidatedRequestAction<HipInitLinkServiceClient> hipInitLinkRequestAction) {
+            DefaultValidatedRequestAction<HipInitLinkServiceClient> hipInitLinkRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 hipInitLinkServiceClient,
-                hipInitLinkRequestAction);
+                hipInitLinkRequestAction,
+                offloadScheduler);
     }
 
     @Bean("hipInitLinkResponseAction")
@@ -1174,8 +1433,9 @@ public class GatewayConfiguration {
     @Bean("hipInitLinkResponseOrchestrator")
     public ResponseOrchestrator hipInitLinkResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<HipInitLinkServiceClient> hipInitLinkResponseAction) {
-        return new ResponseOrchestrator(validator, hipInitLinkResponseAction);
+            DefaultValidatedResponseAction<HipInitLinkServiceClient> hipInitLinkResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, hipInitLinkResponseAction, offloadScheduler);
     }
 
     @Bean("patientServiceClient")
@@ -1199,12 +1459,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             PatientServiceClient patientServiceClient,
-            DefaultValidatedRequestAction<PatientServiceClient> patientRequestAction) {
+            DefaultValidatedRequestAction<PatientServiceClient> patientRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 patientServiceClient,
-                patientRequestAction);
+                patientRequestAction,
+                offloadScheduler);
     }
 
     @Bean("patientResponseAction")
@@ -1216,8 +1478,9 @@ public class GatewayConfiguration {
     @Bean("patientResponseOrchestrator")
     public ResponseOrchestrator patientResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<PatientServiceClient> patientResponseAction) {
-        return new ResponseOrchestrator(validator, patientResponseAction);
+            DefaultValidatedResponseAction<PatientServiceClient> patientResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, patientResponseAction, offloadScheduler);
     }
 
     @Bean("authModeFetchClient")
@@ -1241,12 +1504,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             AuthModeFetchClient authModeFetchClient,
-            DefaultValidatedRequestAction<AuthModeFetchClient> authModeFetchRequestAction) {
+            DefaultValidatedRequestAction<AuthModeFetchClient> authModeFetchRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 authModeFetchClient,
-                authModeFetchRequestAction);
+                authModeFetchRequestAction,
+                offloadScheduler);
     }
 
     @Bean("authModeFetchResponseAction")
@@ -1258,8 +1523,9 @@ public class GatewayConfiguration {
     @Bean("authModeFetchResponseOrchestrator")
     public ResponseOrchestrator authModeFetchResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<AuthModeFetchClient> authModeFetchResponseAction) {
-        return new ResponseOrchestrator(validator, authModeFetchResponseAction);
+            DefaultValidatedResponseAction<AuthModeFetchClient> authModeFetchResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, authModeFetchResponseAction, offloadScheduler);
     }
 
     @Bean("authNotifyServiceClient")
@@ -1283,12 +1549,14 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             AuthNotifyServiceClient authNotifyServiceClient,
-            DefaultValidatedRequestAction<AuthNotifyServiceClient> authNotifyRequestAction) {
+            DefaultValidatedRequestAction<AuthNotifyServiceClient> authNotifyRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 authNotifyServiceClient,
-                authNotifyRequestAction);
+                authNotifyRequestAction,
+                offloadScheduler);
     }
 
     @Bean("authNotifyResponseAction")
@@ -1300,8 +1568,9 @@ public class GatewayConfiguration {
     @Bean("authNotifyResponseOrchestrator")
     public ResponseOrchestrator authNotifyResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<AuthNotifyServiceClient> authNotifyResponseAction) {
-        return new ResponseOrchestrator(validator, authNotifyResponseAction);
+            DefaultValidatedResponseAction<AuthNotifyServiceClient> authNotifyResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, authNotifyResponseAction, offloadScheduler);
     }
 
     @Bean
@@ -1350,8 +1619,9 @@ public class GatewayConfiguration {
     @Bean("hiuSubscriptionNotifyResponseOrchestrator")
     public ResponseOrchestrator hiuSubscriptionNotifyResponseOrchestrator(
             Validator validator,
-            DefaultValidatedResponseAction<HiuSubscriptionNotifyServiceClient> hiuSubscriptionNotifyResponseAction) {
-        return new ResponseOrchestrator(validator, hiuSubscriptionNotifyResponseAction);
+            DefaultValidatedResponseAction<HiuSubscriptionNotifyServiceClient> hiuSubscriptionNotifyResponseAction,
+            OffloadScheduler offloadScheduler) {
+        return new ResponseOrchestrator(validator, hiuSubscriptionNotifyResponseAction, offloadScheduler);
     }
 
     @Bean("hiuSubscriptionNotifyRequestAction")
@@ -1366,18 +1636,32 @@ public class GatewayConfiguration {
             RedundantRequestValidator redundantRequestValidator,
             Validator validator,
             HiuSubscriptionNotifyServiceClient hiuConsentNotifyServiceClient,
-            DefaultValidatedRequestAction<HiuSubscriptionNotifyServiceClient> hiuSubscriptionNotifyRequestAction) {
+            DefaultValidatedRequestAction<HiuSubscriptionNotifyServiceClient> hiuSubscriptionNotifyRequestAction,
+            OffloadScheduler offloadScheduler) {
         return new RequestOrchestrator<>(requestIdMappings,
                 redundantRequestValidator,
                 validator,
                 hiuConsentNotifyServiceClient,
-                hiuSubscriptionNotifyRequestAction);
+                hiuSubscriptionNotifyRequestAction,
+                offloadScheduler);
+    }
+
+    @Bean(destroyMethod = "close")
+    public TokenRefresher facilityTokenRefresher(
+            @Qualifier("facilityTokenCache") CacheAdapter<String, String> facilityTokenCache,
+            TokenRefreshOptions tokenRefreshOptions,
+            MeterRegistry meterRegistry) {
+        return new TokenRefresher("facilityRegistry",
+                facilityTokenCache,
+                tokenRefreshOptions,
+                Schedulers.parallel(),
+                meterRegistry);
     }
 
     @Bean("facilityRegistryClient")
     public FacilityRegistryClient facilityRegistryClient(@Qualifier("customBuilder") WebClient.Builder builder,
                                                          FacilityRegistryProperties facilityRegistryProperties,
-                                                         @Qualifier("facilityTokenCache") CacheAdapter<String, String> facilityTokenCache){
-        return new FacilityRegistryClient(builder, facilityRegistryProperties, facilityTokenCache);
+                                                         @Qualifier("facilityTokenRefresher") TokenRefresher facilityTokenRefresher){
+        return new FacilityRegistryClient(builder, facilityRegistryProperties, facilityTokenRefresher);
     }
 }
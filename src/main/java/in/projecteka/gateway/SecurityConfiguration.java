@@ -2,10 +2,14 @@ package in.projecteka.gateway;
 
 import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.IdentityProperties;
+import in.projecteka.gateway.clients.JwksProperties;
 import in.projecteka.gateway.common.AdminAuthenticator;
 import in.projecteka.gateway.common.Authenticator;
+import in.projecteka.gateway.common.RefreshingJWKSource;
+import in.projecteka.gateway.common.VerifiedTokenCache;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -22,10 +26,9 @@ import org.springframework.security.web.server.context.ServerSecurityContextRepo
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.IOException;
 import java.net.URL;
-import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +38,8 @@ import static in.projecteka.gateway.common.Constants.INTERNAL_BRIDGES;
 import static in.projecteka.gateway.common.Constants.INTERNAL_BRIDGES_BRIDGE_ID_SERVICES;
 import static in.projecteka.gateway.common.Constants.INTERNAL_CM;
 import static in.projecteka.gateway.common.Constants.INTERNAL_GET_FACILITY_BY_ID;
+import static in.projecteka.gateway.common.Constants.INTERNAL_PARKING_LOT;
+import static in.projecteka.gateway.common.Constants.INTERNAL_PARKING_LOT_REDRIVE;
 import static in.projecteka.gateway.common.Constants.INTERNAL_SEARCH_FACILITY_BY_NAME;
 import static in.projecteka.gateway.common.Constants.PATH_ADD_CARE_CONTEXTS;
 import static in.projecteka.gateway.common.Constants.PATH_CARE_CONTEXTS_DISCOVER;
@@ -163,7 +168,9 @@ public class SecurityConfiguration {
     protected static final String[] INTERNAL_APIS = {
             INTERNAL_BRIDGES,
             INTERNAL_BRIDGES_BRIDGE_ID_SERVICES,
-            INTERNAL_CM
+            INTERNAL_CM,
+            INTERNAL_PARKING_LOT,
+            INTERNAL_PARKING_LOT_REDRIVE
     };
 
     protected static final String[] HFR_APIS = {
@@ -203,23 +210,28 @@ public class SecurityConfiguration {
         return new AuthenticationManager();
     }
 
-    @Bean("centralRegistryJWKSet")
-    public JWKSet jwkSet(IdentityProperties identityProperties)
-            throws IOException, ParseException {
-        return JWKSet.load(new URL(identityProperties.getJwkUrl()));
+    @Bean("centralRegistryJWKSource")
+    public RefreshingJWKSource jwkSource(IdentityProperties identityProperties, JwksProperties jwksProperties) {
+        return new RefreshingJWKSource(() -> JWKSet.load(new URL(identityProperties.getJwkUrl())),
+                jwksProperties,
+                Schedulers.boundedElastic());
     }
 
     @Bean
     public Authenticator centralRegistryTokenVerifier(
-            @Qualifier("centralRegistryJWKSet") JWKSet jwkSet) {
-        return new Authenticator(jwkSet);
+            @Qualifier("centralRegistryJWKSource") RefreshingJWKSource jwkSource,
+            @Value("${gateway.verifiedTokenCacheSize}") int verifiedTokenCacheSize) {
+        return new Authenticator(jwkSource, new VerifiedTokenCache(verifiedTokenCacheSize));
     }
 
     @Bean
     public AdminAuthenticator adminServiceTokenVerifier(
-            @Qualifier("centralRegistryJWKSet") JWKSet jwkSet,
-            IdentityProperties identityProperties) {
-        return new AdminAuthenticator(jwkSet, identityProperties.getClientId());
+            @Qualifier("centralRegistryJWKSource") RefreshingJWKSource jwkSource,
+            IdentityProperties identityProperties,
+            @Value("${gateway.verifiedTokenCacheSize}") int verifiedTokenCacheSize) {
+        return new AdminAuthenticator(jwkSource,
+                identityProperties.getClientId(),
+                new VerifiedTokenCache(verifiedTokenCacheSize));
     }
 
     @Bean
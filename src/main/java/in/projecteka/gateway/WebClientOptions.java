@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.List;
 
 @ConstructorBinding
 @ConfigurationProperties("webclient.connection-pool")
@@ -13,4 +16,26 @@ public class WebClientOptions {
     private final int poolSize;
     private final int maxLifeTime;
     private final int maxIdleTimeout;
-}
\ No newline at end of file
+    private final int pendingAcquireMaxCount;
+    private final List<HostOptions> hosts;
+
+    public List<HostOptions> getHosts() {
+        return hosts == null ? List.of() : hosts;
+    }
+
+    @ConstructorBinding
+    @Getter
+    @AllArgsConstructor
+    public static class HostOptions {
+        private final String host;
+        private final int port;
+        private final int poolSize;
+        private final int pendingAcquireMaxCount;
+        private final int maxIdleTimeout;
+        private final List<HttpProtocol> protocols;
+
+        public List<HttpProtocol> getProtocols() {
+            return protocols == null || protocols.isEmpty() ? List.of(HttpProtocol.HTTP11) : protocols;
+        }
+    }
+}
@@ -60,7 +60,7 @@ public class AdminServiceClient {
                               String realm,
                               Supplier<Mono<String>> tokenGenerator) {
         this.realm = realm;
-        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.webClient = webClientBuilder.clone().baseUrl(baseUrl).build();
         this.tokenGenerator = tokenGenerator;
     }
 
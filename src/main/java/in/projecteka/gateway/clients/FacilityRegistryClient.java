@@ -3,7 +3,7 @@ package in.projecteka.gateway.clients;
 import in.projecteka.gateway.clients.model.FacilitySearchResponse;
 import in.projecteka.gateway.clients.model.FindFacilityByIDResponse;
 import in.projecteka.gateway.clients.model.Session;
-import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.TokenRefresher;
 import in.projecteka.gateway.registry.FacilityRegistryProperties;
 import lombok.AllArgsConstructor;
 import lombok.Value;
@@ -34,18 +34,17 @@ public class FacilityRegistryClient {
     private final WebClient registryWebClient;
     private final WebClient authWebClient;
     private final FacilityRegistryProperties properties;
-    private final CacheAdapter<String, String> facilityTokenCache;
-
+    private final TokenRefresher tokenRefresher;
 
     public FacilityRegistryClient(WebClient.Builder webClientBuilder, FacilityRegistryProperties properties,
-                                  CacheAdapter<String, String> facilityTokenCache) {
-        this.registryWebClient = webClientBuilder.baseUrl(properties.getUrl()).build();
-        this.authWebClient = webClientBuilder.baseUrl(properties.getAuthUrl()).build();
+                                  TokenRefresher tokenRefresher) {
+        this.registryWebClient = webClientBuilder.clone().baseUrl(properties.getUrl()).build();
+        this.authWebClient = webClientBuilder.clone().baseUrl(properties.getAuthUrl()).build();
         this.properties = properties;
-        this.facilityTokenCache = facilityTokenCache;
+        this.tokenRefresher = tokenRefresher;
     }
 
-    private Mono<String> getTokenForFacilityRegistry() {
+    private Mono<Session> getTokenForFacilityRegistry() {
         return authWebClient
                 .post()
                 .uri("/sessions")
@@ -59,14 +58,11 @@ public class FacilityRegistryClient {
                         .doOnNext(logger::error)
                         .then(Mono.error(ClientError.unableToConnect())))
                 .bodyToMono(Session.class)
-                .flatMap(session -> facilityTokenCache.put(FACILITY_TOKEN_CACHE_KEY, session.getAccessToken())
-                        .thenReturn(session.getAccessToken()))
                 .doOnSubscribe(subscription -> logger.info("About to get token for facility registry"));
     }
 
     public Mono<String> getToken() {
-        return facilityTokenCache.get(FACILITY_TOKEN_CACHE_KEY)
-                .switchIfEmpty(getTokenForFacilityRegistry())
+        return tokenRefresher.token(FACILITY_TOKEN_CACHE_KEY, this::getTokenForFacilityRegistry)
                 .map(token -> String.format("%s %s", "Bearer", token));
     }
 
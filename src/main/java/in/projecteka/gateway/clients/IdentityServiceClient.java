@@ -47,7 +47,7 @@ public class IdentityServiceClient {
 
     public IdentityServiceClient(WebClient.Builder webClientBuilder, String baseUrl, String realm) {
         this.realm = realm;
-        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.webClient = webClientBuilder.clone().baseUrl(baseUrl).build();
     }
 
     private Mono<Session> getToken(MultiValueMap<String, String> formData) {
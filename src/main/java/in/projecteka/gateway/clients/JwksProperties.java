@@ -0,0 +1,16 @@
+package in.projecteka.gateway.clients;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "identity.jwks")
+@AllArgsConstructor
+@Getter
+@ConstructorBinding
+public class JwksProperties {
+    private final int refreshInterval;
+    private final int minRefetchInterval;
+    private final String snapshotPath;
+}
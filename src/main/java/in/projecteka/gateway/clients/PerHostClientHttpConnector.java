@@ -0,0 +1,41 @@
+package in.projecteka.gateway.clients;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.function.Function;
+
+public class PerHostClientHttpConnector implements ClientHttpConnector {
+    private final ClientHttpConnector defaultConnector;
+    private final Map<String, ClientHttpConnector> hostConnectors;
+
+    public PerHostClientHttpConnector(ClientHttpConnector defaultConnector,
+                                      Map<String, ClientHttpConnector> hostConnectors) {
+        this.defaultConnector = defaultConnector;
+        this.hostConnectors = Map.copyOf(hostConnectors);
+    }
+
+    public static String hostKey(String host, int port) {
+        return host.toLowerCase() + ":" + port;
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method,
+                                            URI uri,
+                                            Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return connectorFor(uri).connect(method, uri, requestCallback);
+    }
+
+    private ClientHttpConnector connectorFor(URI uri) {
+        if (hostConnectors.isEmpty() || uri.getHost() == null) {
+            return defaultConnector;
+        }
+        var port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return hostConnectors.getOrDefault(hostKey(uri.getHost(), port), defaultConnector);
+    }
+}
@@ -3,24 +3,32 @@ package in.projecteka.gateway.clients;
 import com.fasterxml.jackson.databind.JsonNode;
 import in.projecteka.gateway.clients.model.CmErrorResponse;
 import in.projecteka.gateway.common.IdentityService;
+import in.projecteka.gateway.common.RequestEnvelope;
 import in.projecteka.gateway.common.cache.ServiceOptions;
 import in.projecteka.gateway.common.model.ErrorResult;
 import in.projecteka.gateway.registry.ServiceType;
-import lombok.AllArgsConstructor;
+import lombok.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import static in.projecteka.gateway.clients.ClientError.invalidRequest;
 import static in.projecteka.gateway.clients.ClientError.mappingNotFoundForId;
 import static in.projecteka.gateway.clients.ClientError.unableToConnect;
+import static in.projecteka.gateway.clients.TargetBulkhead.TARGET_ID;
 import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
 import static in.projecteka.gateway.common.Constants.X_HIP_ID;
 import static in.projecteka.gateway.common.Constants.X_HIU_ID;
@@ -34,23 +42,38 @@ import static reactor.core.publisher.Mono.empty;
 import static reactor.core.publisher.Mono.error;
 import static reactor.core.publisher.Mono.subscriberContext;
 
-@AllArgsConstructor
 public abstract class ServiceClient {
     public static final String NO_MAPPING_FOUND_FOR_CLIENT = "No mapping found for %s";
     private static final Logger logger = LoggerFactory.getLogger(ServiceClient.class);
 
     protected final ServiceOptions serviceOptions;
-    protected final WebClient.Builder webClientBuilder;
+    protected final WebClient webClient;
     protected final IdentityService identityService;
 
+    protected ServiceClient(ServiceOptions serviceOptions,
+                            WebClient.Builder webClientBuilder,
+                            IdentityService identityService) {
+        this.serviceOptions = serviceOptions;
+        this.webClient = webClientBuilder.build();
+        this.identityService = identityService;
+    }
+
     public Mono<Void> routeRequest(Map<String, Object> request, String clientId, String routingKey, String sourceId) {
         return routeCommon(request, clientId, this::getRequestUrl, routingKey, sourceId);
     }
 
+    public Mono<Void> routeRequest(RequestEnvelope envelope, String clientId, String routingKey, String sourceId) {
+        return routeCommon(() -> Optional.of(Payload.of(envelope)), clientId, this::getRequestUrl, routingKey, sourceId);
+    }
+
     public Mono<Void> routeResponse(JsonNode request, String clientId, String routingKey) {
         return routeCommon(request, clientId, this::getResponseUrl, routingKey, null);
     }
 
+    public Mono<Void> routeResponse(RequestEnvelope envelope, String clientId, String routingKey) {
+        return routeCommon(() -> Optional.of(Payload.of(envelope)), clientId, this::getResponseUrl, routingKey, null);
+    }
+
     public Mono<Void> notifyError(String clientId, String sourceRoutingKey, ErrorResult request) {
         return routeCommon(request, clientId, this::getResponseUrl, sourceRoutingKey, null);
     }
@@ -65,35 +88,49 @@ public abstract class ServiceClient {
                                        BiFunction<String,ServiceType, Mono<String>> urlGetter,
                                        String routingKey,
                                        String sourceId) {
+        return routeCommon(() -> from(requestBody).map(Payload::of), targetId, urlGetter, routingKey, sourceId);
+    }
+
+    private Mono<Void> routeCommon(Supplier<Optional<Payload>> payload,
+                                   String targetId,
+                                   BiFunction<String,ServiceType, Mono<String>> urlGetter,
+                                   String routingKey,
+                                   String sourceId) {
         var serviceType = routingKey.equals(X_HIP_ID)? ServiceType.HIP : ServiceType.HIU;
         return urlGetter.apply(targetId, serviceType)
                 .switchIfEmpty(Mono.defer(() -> {
                     logger.error(format(NO_MAPPING_FOUND_FOR_CLIENT, targetId));
                     return error(mappingNotFoundForId(targetId));
                 }))
-                .flatMap(url -> from(requestBody)
-                        .map(serialized -> route(serialized, url, routingKey, targetId, sourceId))
+                .flatMap(url -> payload.get()
+                        .map(body -> route(body, url, routingKey, targetId, sourceId))
                         .orElse(empty()));
 
     }
 
-    private <T> Mono<Void> route(T request, String url, String routingKey, String targetId, String sourceId) {
+    private Mono<Void> route(Payload request, String url, String routingKey, String targetId, String sourceId) {
         return routingKey.equals(X_HIP_ID) || routingKey.equals(X_HIU_ID)
                ? identityService.authenticate()
                        .flatMap(token -> bridgeWebClientBuilder(request, url, token, routingKey, targetId)).then()
                : identityService.authenticate()
-                       .flatMap(token -> cmWebClientBuilder(request, url, token, sourceId)).then();
+                       .flatMap(token -> cmWebClientBuilder(request, url, token, targetId, sourceId)).then();
     }
 
-    private <T> Mono<ResponseEntity<Void>> cmWebClientBuilder(T request, String url, String token, String sourceId) {
-        return webClientBuilder.build()
+    private Mono<ResponseEntity<Void>> cmWebClientBuilder(Payload request,
+                                                          String url,
+                                                          String token,
+                                                          String targetId,
+                                                          String sourceId) {
+        return webClient
                 .post()
                 .uri(url)
+                .attribute(TARGET_ID, targetId)
                 .contentType(APPLICATION_JSON)
                 .header(AUTHORIZATION, token)
                 .header(CORRELATION_ID, MDC.get(CORRELATION_ID))
                 .header(X_ORIGIN_ID, sourceId)
-                .bodyValue(request)
+                .headers(request::applyTo)
+                .body(request.getInserter())
                 .retrieve()
                 .onStatus(httpStatus -> !httpStatus.is2xxSuccessful(),
                         clientResponse -> clientResponse
@@ -105,19 +142,21 @@ public abstract class ServiceClient {
                 .timeout(ofSeconds(serviceOptions.getTimeout()));
     }
 
-    private <T> Mono<ResponseEntity<Void>> bridgeWebClientBuilder(T request,
-                                                                  String url,
-                                                                  String token,
-                                                                  String routingKey,
-                                                                  String clientId) {
-        return webClientBuilder.build()
+    private Mono<ResponseEntity<Void>> bridgeWebClientBuilder(Payload request,
+                                                              String url,
+                                                              String token,
+                                                              String routingKey,
+                                                              String clientId) {
+        return webClient
                 .post()
                 .uri(url)
+                .attribute(TARGET_ID, clientId)
                 .contentType(APPLICATION_JSON)
                 .header(AUTHORIZATION, token)
                 .header(CORRELATION_ID, MDC.get(CORRELATION_ID))
                 .header(routingKey, clientId)
-                .bodyValue(request)
+                .headers(request::applyTo)
+                .body(request.getInserter())
                 .retrieve()
                 .onStatus(httpStatus -> !httpStatus.is2xxSuccessful(),
                         clientResponse -> clientResponse.bodyToMono(HashMap.class)
@@ -126,4 +165,24 @@ public abstract class ServiceClient {
                 .toBodilessEntity()
                 .timeout(ofSeconds(serviceOptions.getTimeout()));
     }
+
+    @Value
+    private static class Payload {
+        BodyInserter<?, ? super ClientHttpRequest> inserter;
+        long contentLength;
+
+        static Payload of(String serialized) {
+            return new Payload(BodyInserters.fromValue(serialized), -1);
+        }
+
+        static Payload of(RequestEnvelope envelope) {
+            return new Payload(BodyInserters.fromDataBuffers(envelope.toDataBuffers()), envelope.getContentLength());
+        }
+
+        void applyTo(HttpHeaders headers) {
+            if (contentLength >= 0) {
+                headers.setContentLength(contentLength);
+            }
+        }
+    }
 }
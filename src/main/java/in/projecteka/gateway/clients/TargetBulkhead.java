@@ -0,0 +1,152 @@
+package in.projecteka.gateway.clients;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static in.projecteka.gateway.clients.ClientError.tooManyRequests;
+
+public class TargetBulkhead implements ExchangeFilterFunction {
+    public static final String TARGET_ID = TargetBulkhead.class.getName() + ".targetId";
+    private static final Logger logger = LoggerFactory.getLogger(TargetBulkhead.class);
+
+    private final int maxConcurrentCalls;
+    private final int maxPendingCalls;
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public TargetBulkhead(int maxConcurrentCalls, int maxPendingCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxPendingCalls = maxPendingCalls;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return request.attribute(TARGET_ID)
+                .map(targetId -> compartments.computeIfAbsent((String) targetId, Compartment::new))
+                .map(compartment -> Mono.defer(() -> {
+                    var permit = new Permit(compartment);
+                    var handedOver = new AtomicBoolean();
+                    return permit.acquire()
+                            .then(Mono.defer(() -> next.exchange(request)))
+                            .map(response -> {
+                                handedOver.set(true);
+                                return releasingOnBodyEnd(response, permit);
+                            })
+                            .doFinally(signalType -> {
+                                if (!handedOver.get()) {
+                                    permit.release();
+                                }
+                            });
+                }))
+                .orElseGet(() -> next.exchange(request));
+    }
+
+    private static ClientResponse releasingOnBodyEnd(ClientResponse response, Permit permit) {
+        return ClientResponse.from(response)
+                .body(response.bodyToFlux(DataBuffer.class).doFinally(signalType -> permit.release()))
+                .build();
+    }
+
+    public int inFlight(String targetId) {
+        var compartment = compartments.get(targetId);
+        return compartment == null ? 0 : compartment.inFlight;
+    }
+
+    private class Compartment {
+        private final String targetId;
+        private final Queue<Permit> pending = new ArrayDeque<>();
+        private int inFlight;
+
+        Compartment(String targetId) {
+            this.targetId = targetId;
+        }
+
+        private synchronized Admission admit(Permit permit) {
+            if (inFlight < maxConcurrentCalls) {
+                inFlight++;
+                permit.granted = true;
+                return Admission.GRANTED;
+            }
+            if (pending.size() >= maxPendingCalls) {
+                return Admission.REJECTED;
+            }
+            pending.add(permit);
+            return Admission.QUEUED;
+        }
+
+        private void release() {
+            Permit next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+                next.granted = true;
+            }
+            next.sink.success();
+        }
+
+        private synchronized void abandon(Permit permit) {
+            pending.remove(permit);
+        }
+    }
+
+    private class Permit {
+        private final Compartment compartment;
+        private MonoSink<Void> sink;
+        private boolean granted;
+        private boolean released;
+
+        Permit(Compartment compartment) {
+            this.compartment = compartment;
+        }
+
+        Mono<Void> acquire() {
+            return Mono.create(sink -> {
+                this.sink = sink;
+                var admission = compartment.admit(this);
+                if (admission == Admission.GRANTED) {
+                    sink.success();
+                } else if (admission == Admission.REJECTED) {
+                    logger.warn("Rejecting call to {}, {} calls already waiting",
+                            compartment.targetId,
+                            maxPendingCalls);
+                    sink.error(tooManyRequests());
+                }
+            });
+        }
+
+        void release() {
+            synchronized (compartment) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                if (!granted) {
+                    compartment.abandon(this);
+                    return;
+                }
+            }
+            compartment.release();
+        }
+    }
+
+    private enum Admission {
+        GRANTED,
+        QUEUED,
+        REJECTED
+    }
+}
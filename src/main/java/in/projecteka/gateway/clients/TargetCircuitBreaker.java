@@ -0,0 +1,195 @@
+package in.projecteka.gateway.clients;
+
+import in.projecteka.gateway.CircuitBreakerOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static in.projecteka.gateway.clients.ClientError.unableToConnect;
+import static in.projecteka.gateway.clients.TargetBulkhead.TARGET_ID;
+
+public class TargetCircuitBreaker implements ExchangeFilterFunction {
+    private static final Logger logger = LoggerFactory.getLogger(TargetCircuitBreaker.class);
+
+    private final CircuitBreakerOptions options;
+    private final Duration maxTimeout;
+    private final LongSupplier clock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public TargetCircuitBreaker(CircuitBreakerOptions options, Duration maxTimeout) {
+        this(options, maxTimeout, System::currentTimeMillis);
+    }
+
+    TargetCircuitBreaker(CircuitBreakerOptions options, Duration maxTimeout, LongSupplier clock) {
+        this.options = options;
+        this.maxTimeout = maxTimeout;
+        this.clock = clock;
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return request.attribute(TARGET_ID)
+                .map(targetId -> circuits.computeIfAbsent((String) targetId, Circuit::new))
+                .map(circuit -> Mono.defer(() -> {
+                    if (!circuit.tryAcquire()) {
+                        logger.warn("Circuit is open for {}, failing fast", circuit.targetId);
+                        return Mono.<ClientResponse>error(unableToConnect());
+                    }
+                    var start = clock.getAsLong();
+                    return next.exchange(request)
+                            .timeout(circuit.getTimeout())
+                            .doOnNext(response -> circuit.record(clock.getAsLong() - start,
+                                    response.statusCode().is5xxServerError()))
+                            .doOnError(throwable -> circuit.record(clock.getAsLong() - start, true))
+                            .doOnCancel(circuit::cancelled);
+                }))
+                .orElseGet(() -> next.exchange(request));
+    }
+
+    public State state(String targetId) {
+        var circuit = circuits.get(targetId);
+        return circuit == null ? State.CLOSED : circuit.getState();
+    }
+
+    public Duration timeout(String targetId) {
+        var circuit = circuits.get(targetId);
+        return circuit == null ? maxTimeout : circuit.getTimeout();
+    }
+
+    private class Circuit {
+        private final String targetId;
+        private final long[] latencies = new long[options.getWindowSize()];
+        private final boolean[] failures = new boolean[options.getWindowSize()];
+        private int count;
+        private int next;
+        private int failureCount;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private int probesInFlight;
+        private Duration timeout = maxTimeout;
+
+        Circuit(String targetId) {
+            this.targetId = targetId;
+        }
+
+        synchronized State getState() {
+            return state;
+        }
+
+        synchronized Duration getTimeout() {
+            return timeout;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAt < options.getWaitDurationInOpenState() * 1000L) {
+                    return false;
+                }
+                logger.info("Probing {} after {}s in open state", targetId, options.getWaitDurationInOpenState());
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight >= options.getHalfOpenProbes()) {
+                    return false;
+                }
+                probesInFlight++;
+            }
+            return true;
+        }
+
+        synchronized void record(long latency, boolean failed) {
+            if (state == State.OPEN) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                if (failed) {
+                    open();
+                    return;
+                }
+                logger.info("Closing circuit for {}", targetId);
+                state = State.CLOSED;
+                reset();
+            }
+            add(latency, failed);
+            if (count >= options.getMinimumCalls() && failureCount * 100 >= options.getFailureRateThreshold() * count) {
+                open();
+                return;
+            }
+            timeout = adaptedTimeout();
+        }
+
+        synchronized void cancelled() {
+            if (state == State.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+            }
+        }
+
+        private void open() {
+            logger.warn("Opening circuit for {}, {} of last {} calls failed", targetId, failureCount, count);
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            reset();
+        }
+
+        private void reset() {
+            count = 0;
+            next = 0;
+            failureCount = 0;
+            timeout = maxTimeout;
+        }
+
+        private void add(long latency, boolean failed) {
+            if (latencies.length == 0) {
+                return;
+            }
+            if (count == latencies.length) {
+                failureCount -= failures[next] ? 1 : 0;
+            } else {
+                count++;
+            }
+            latencies[next] = latency;
+            failures[next] = failed;
+            failureCount += failed ? 1 : 0;
+            next = (next + 1) % latencies.length;
+        }
+
+        private Duration adaptedTimeout() {
+            var successful = new long[count];
+            var size = 0;
+            for (int i = 0; i < count; i++) {
+                if (!failures[i]) {
+                    successful[size++] = latencies[i];
+                }
+            }
+            if (size < options.getMinimumCalls()) {
+                return maxTimeout;
+            }
+            Arrays.sort(successful, 0, size);
+            var index = Math.max(0, (int) Math.ceil(options.getTimeoutPercentile() / 100.0 * size) - 1);
+            var adapted = Duration.ofMillis(successful[index] + options.getTimeoutMargin());
+            var minTimeout = Duration.ofMillis(options.getMinTimeout());
+            if (adapted.compareTo(minTimeout) < 0) {
+                return minTimeout;
+            }
+            return adapted.compareTo(maxTimeout) > 0 ? maxTimeout : adapted;
+        }
+    }
+}
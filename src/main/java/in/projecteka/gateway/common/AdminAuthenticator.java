@@ -4,8 +4,7 @@ package in.projecteka.gateway.common;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.DefaultJOSEObjectTypeVerifier;
 import com.nimbusds.jose.proc.JWSKeySelector;
@@ -34,15 +33,18 @@ public class AdminAuthenticator {
     private final Logger logger = Logger.getLogger(AdminAuthenticator.class);
     private final ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
     private final String id;
+    private final VerifiedTokenCache verifiedTokens;
 
-    public AdminAuthenticator(JWKSet jwkSet, String clientId) {
+    public AdminAuthenticator(JWKSource<SecurityContext> jwkSource,
+                              String clientId,
+                              VerifiedTokenCache verifiedTokens) {
+        this.verifiedTokens = verifiedTokens;
         this.id = clientId;
-        var immutableJWKSet = new ImmutableJWKSet<>(jwkSet);
         jwtProcessor = new DefaultJWTProcessor<>();
         jwtProcessor.setJWSTypeVerifier(new DefaultJOSEObjectTypeVerifier<>(JOSEObjectType.JWT));
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.RS256;
         JWSKeySelector<SecurityContext> keySelector;
-        keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, immutableJWKSet);
+        keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, jwkSource);
         jwtProcessor.setJWSKeySelector(keySelector);
         jwtProcessor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(
                 new JWTClaimsSet.Builder().build(),
@@ -54,11 +56,16 @@ public class AdminAuthenticator {
             var parts = token.split(" ");
             if (parts.length == 2) {
                 var credentials = parts[1];
+                var verified = verifiedTokens.get(credentials);
+                if (verified.isPresent()) {
+                    return just(verified.get());
+                }
                 return Mono.justOrEmpty(jwtProcessor.process(credentials, null))
                         .flatMap(jwtClaimsSet -> {
                             try {
                                 var clientId = id;
                                 var caller = new Caller(clientId, false, getRoles(jwtClaimsSet, clientId));
+                                verifiedTokens.put(credentials, caller, jwtClaimsSet.getExpirationTime());
                                 return just(caller);
                             } catch (Exception e) {
                                 logger.error(e);
@@ -4,8 +4,7 @@ package in.projecteka.gateway.common;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.DefaultJOSEObjectTypeVerifier;
 import com.nimbusds.jose.proc.JWSKeySelector;
@@ -33,14 +32,15 @@ import static reactor.core.publisher.Mono.just;
 public class Authenticator {
     private final ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
     private final Logger logger = Logger.getLogger(Authenticator.class);
+    private final VerifiedTokenCache verifiedTokens;
 
-    public Authenticator(JWKSet jwkSet) {
-        var immutableJWKSet = new ImmutableJWKSet<>(jwkSet);
+    public Authenticator(JWKSource<SecurityContext> jwkSource, VerifiedTokenCache verifiedTokens) {
+        this.verifiedTokens = verifiedTokens;
         jwtProcessor = new DefaultJWTProcessor<>();
         jwtProcessor.setJWSTypeVerifier(new DefaultJOSEObjectTypeVerifier<>(JOSEObjectType.JWT));
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.RS256;
         JWSKeySelector<SecurityContext> keySelector;
-        keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, immutableJWKSet);
+        keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, jwkSource);
         jwtProcessor.setJWSKeySelector(keySelector);
         jwtProcessor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(
                 new JWTClaimsSet.Builder().build(),
@@ -52,11 +52,16 @@ public class Authenticator {
             var parts = token.split(" ");
             if (parts.length == 2) {
                 var credentials = parts[1];
+                var verified = verifiedTokens.get(credentials);
+                if (verified.isPresent()) {
+                    return just(verified.get());
+                }
                 return Mono.justOrEmpty(jwtProcessor.process(credentials, null))
                         .flatMap(jwtClaimsSet -> {
                             try {
                                 var clientId = jwtClaimsSet.getStringClaim("clientId");
                                 var caller = new Caller(clientId, true, getRoles(jwtClaimsSet));
+                                verifiedTokens.put(credentials, caller, jwtClaimsSet.getExpirationTime());
                                 return just(caller);
                             } catch (Exception e) {
                                 logger.error(e);
@@ -0,0 +1,175 @@
+package in.projecteka.gateway.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.QueueSpecification;
+import reactor.rabbitmq.Sender;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static in.projecteka.gateway.clients.ClientError.unableToConnect;
+
+/**
+ * Publishes to RabbitMQ with publisher confirms. Messages from all callers are queued and sent in batches of up to
+ * {@code batchSize}, or whatever arrived within {@code batchWait} milliseconds, one batch at a time on one confirm
+ * channel; a message the broker nacks or does not confirm within {@code confirmTimeout} milliseconds is republished
+ * with a later batch, up to {@code maxAttempts} times. {@link #publish(OutboundMessage)} completes once the broker has
+ * confirmed the message and fails if that does not happen within {@code maxAttempts} rounds of waiting and confirming.
+ */
+public class ConfirmedPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(ConfirmedPublisher.class);
+
+    private final Sender sender;
+    private final PublisherOptions options;
+    private final MeterRegistry meterRegistry;
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile MonoProcessor<Void> batchFull = MonoProcessor.create();
+    private volatile boolean closed;
+
+    public ConfirmedPublisher(Sender sender, PublisherOptions options, MeterRegistry meterRegistry) {
+        this.sender = sender;
+        this.options = options;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<Void> publish(OutboundMessage message) {
+        var timeout = Duration.ofMillis((long) options.getMaxAttempts()
+                * (options.getBatchWait() + options.getConfirmTimeout()));
+        return Mono.defer(() -> {
+            var publish = new Pending(message, System.nanoTime());
+            enqueue(publish);
+            return publish.confirmed;
+        })
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class, throwable -> {
+                    logger.error("Message to {} was not confirmed within {}", message.getRoutingKey(), timeout);
+                    return unableToConnect();
+                });
+    }
+
+    public Mono<Void> declareQueue(QueueSpecification specification) {
+        return sender.declareQueue(specification).then();
+    }
+
+    public void close() {
+        closed = true;
+        Pending publish;
+        while ((publish = queue.poll()) != null) {
+            publish.confirmed.onError(unableToConnect());
+        }
+        sender.close();
+    }
+
+    private void enqueue(Pending publish) {
+        if (closed) {
+            publish.confirmed.onError(unableToConnect());
+            return;
+        }
+        queue.add(publish);
+        if (queued.incrementAndGet() >= options.getBatchSize()) {
+            batchFull.onComplete();
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (closed || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        batchFull = MonoProcessor.create();
+        var wait = queued.get() >= options.getBatchSize()
+                   ? Mono.delay(Duration.ZERO).then()
+                   : Mono.delay(Duration.ofMillis(options.getBatchWait())).then().or(batchFull);
+        wait.then(Mono.defer(() -> {
+            var batch = nextBatch();
+            return batch.isEmpty() ? Mono.<Void>empty() : send(batch);
+        }))
+                .doFinally(signalType -> {
+                    draining.set(false);
+                    drain();
+                })
+                .subscribe(null, throwable -> logger.error("Failed to publish a batch", throwable));
+    }
+
+    private List<Pending> nextBatch() {
+        var batch = new ArrayList<Pending>(options.getBatchSize());
+        Pending publish;
+        while (batch.size() < options.getBatchSize() && (publish = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(publish);
+        }
+        return batch;
+    }
+
+    private Mono<Void> send(List<Pending> batch) {
+        var unconfirmed = new IdentityHashMap<OutboundMessage, Pending>();
+        batch.forEach(publish -> unconfirmed.put(publish.message, publish));
+        return sender.sendWithPublishConfirms(Flux.fromIterable(batch).map(publish -> publish.message))
+                .doOnNext(result -> settle(unconfirmed, result))
+                .then()
+                .timeout(Duration.ofMillis(options.getConfirmTimeout()))
+                .onErrorResume(throwable -> {
+                    logger.error("Failed to publish a batch of {} messages", batch.size(), throwable);
+                    return Mono.empty();
+                })
+                .then(Mono.fromRunnable(() -> unconfirmed.values().forEach(this::retryOrFail)));
+    }
+
+    private void settle(IdentityHashMap<OutboundMessage, Pending> unconfirmed, OutboundMessageResult result) {
+        var publish = unconfirmed.get(result.getOutboundMessage());
+        if (publish == null || !result.isAck()) {
+            return;
+        }
+        unconfirmed.remove(result.getOutboundMessage());
+        Timer.builder("gateway.publish.latency")
+                .tag("routingKey", publish.message.getRoutingKey())
+                .register(meterRegistry)
+                .record(System.nanoTime() - publish.started, TimeUnit.NANOSECONDS);
+        publish.confirmed.onComplete();
+    }
+
+    private void retryOrFail(Pending publish) {
+        var routingKey = publish.message.getRoutingKey();
+        if (publish.attempts < options.getMaxAttempts()) {
+            meterRegistry.counter("gateway.publish.unconfirmed", "routingKey", routingKey, "outcome", "retried")
+                    .increment();
+            publish.attempts++;
+            enqueue(publish);
+            return;
+        }
+        meterRegistry.counter("gateway.publish.unconfirmed", "routingKey", routingKey, "outcome", "failed")
+                .increment();
+        logger.error("Message to {} was not confirmed after {} attempts", routingKey, publish.attempts);
+        publish.confirmed.onError(unableToConnect());
+    }
+
+    private static class Pending {
+        private final OutboundMessage message;
+        private final long started;
+        private final MonoProcessor<Void> confirmed = MonoProcessor.create();
+        private int attempts = 1;
+
+        private Pending(OutboundMessage message, long started) {
+            this.message = message;
+            this.started = started;
+        }
+    }
+}
@@ -13,6 +13,10 @@ public class Constants {
     public static final String TIMESTAMP = "timestamp";
     public static final String GW_DEAD_LETTER_EXCHANGE = "gw.dead-letter-exchange";
     public static final String GW_EXCHANGE = "gw.exchange";
+    public static final String GW_PARKING_EXCHANGE = "gw.parking.exchange";
+    public static final String GW_PARKING_LOT_QUEUE = "gw.parkinglot";
+    public static final String GW_DEAD_LETTER_QUEUE = "gw.dlq";
+    public static final String X_RETRY_ATTEMPT = "X-RETRY-ATTEMPT";
     public static final String GW_LINK_QUEUE = "gw.link";
     public static final String GW_DATAFLOW_QUEUE = "gw.dataflow";
     public static final String BRIDGE_ID_PREFIX = "bridge_";
@@ -70,6 +74,8 @@ public class Constants {
     public static final String PATH_ADD_CARE_CONTEXTS = CURRENT_VERSION + "/links/link/add-contexts";
     public static final String PATH_ON_ADD_CARE_CONTEXTS = CURRENT_VERSION + "/links/link/on-add-contexts";
     public static final String INTERNAL_CM = "/internal/cm";
+    public static final String INTERNAL_PARKING_LOT = "/internal/parking-lot";
+    public static final String INTERNAL_PARKING_LOT_REDRIVE = "/internal/parking-lot/redrive";
     public static final String PATH_CONSENT_REQUEST_STATUS = CURRENT_VERSION + "/consent-requests/status";
     public static final String PATH_CONSENT_REQUEST_ON_STATUS = CURRENT_VERSION + "/consent-requests/on-status";
     public static final String PATH_PATIENT_SHARE = CURRENT_VERSION + "/patients/profile/share";
@@ -0,0 +1,22 @@
+package in.projecteka.gateway.common;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.consumer")
+@Value
+@Builder
+@ConstructorBinding
+public class ConsumerOptions {
+    public final int prefetch;
+    public final int concurrency;
+    public final Map<String, Integer> queueConcurrency;
+
+    public int concurrencyFor(String queue) {
+        return queueConcurrency == null ? concurrency : queueConcurrency.getOrDefault(queue, concurrency);
+    }
+}
@@ -22,6 +22,11 @@ public class DefaultValidatedRequestAction<T extends ServiceClient> implements V
         return serviceClient.routeRequest(updatedRequest, targetId, routingKey, sourceId);
     }
 
+    @Override
+    public Mono<Void> routeRequest(String sourceId, String targetId, RequestEnvelope envelope, String routingKey) {
+        return serviceClient.routeRequest(envelope, targetId, routingKey, sourceId);
+    }
+
     @Override
     public Mono<Void> handleError(Throwable throwable, String id, Map<String, Object> map, String sourceId) {
         logger.error("Error in notifying host with result", throwable);
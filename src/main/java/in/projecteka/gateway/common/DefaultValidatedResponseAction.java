@@ -19,6 +19,11 @@ public class DefaultValidatedResponseAction<T extends ServiceClient> implements
         return serviceClient.routeResponse(updatedRequest, clientId, routingKey);
     }
 
+    @Override
+    public Mono<Void> routeResponse(String clientId, RequestEnvelope envelope, String routingKey) {
+        return serviceClient.routeResponse(envelope, clientId, routingKey);
+    }
+
     @Override
     public Mono<Void> handleError(Throwable throwable, String id, JsonNode jsonNode) {
         //Does it make sense to call the same API back to notify only Error?
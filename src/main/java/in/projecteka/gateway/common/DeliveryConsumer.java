@@ -0,0 +1,47 @@
+package in.projecteka.gateway.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.ConsumeOptions;
+import reactor.rabbitmq.Receiver;
+import reactor.util.function.Tuples;
+
+import java.util.function.Function;
+
+/**
+ * Consumes a queue with at most {@code prefetch} unacknowledged deliveries and {@code concurrency} of them being
+ * processed at a time. Deliveries are settled in the order they were received: acked when processing completes,
+ * rejected without requeue when it fails.
+ */
+final class DeliveryConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryConsumer.class);
+
+    private DeliveryConsumer() {
+    }
+
+    static Disposable consume(Receiver receiver,
+                              String queue,
+                              ConsumerOptions options,
+                              Function<AcknowledgableDelivery, Mono<Void>> process) {
+        return receiver.consumeManualAck(queue, new ConsumeOptions().qos(options.getPrefetch()))
+                .flatMapSequential(delivery -> Mono.defer(() -> process.apply(delivery))
+                                .thenReturn(true)
+                                .onErrorResume(throwable -> {
+                                    logger.error("Failed to process delivery from {}", queue, throwable);
+                                    return Mono.just(false);
+                                })
+                                .map(processed -> Tuples.of(delivery, processed)),
+                        options.concurrencyFor(queue),
+                        options.getPrefetch())
+                .subscribe(outcome -> {
+                    if (Boolean.TRUE.equals(outcome.getT2())) {
+                        outcome.getT1().ack();
+                    } else {
+                        outcome.getT1().nack(false);
+                    }
+                }, throwable -> logger.error("Consumer of {} stopped", queue, throwable));
+    }
+}
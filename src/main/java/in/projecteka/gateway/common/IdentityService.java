@@ -5,7 +5,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import in.projecteka.gateway.clients.IdentityProperties;
 import in.projecteka.gateway.clients.IdentityServiceClient;
 import in.projecteka.gateway.clients.model.Session;
-import in.projecteka.gateway.common.cache.CacheAdapter;
 import in.projecteka.gateway.session.SessionRequest;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Mono;
@@ -17,11 +16,10 @@ public class IdentityService {
 
     private final IdentityServiceClient identityServiceClient;
     private final IdentityProperties properties;
-    private final CacheAdapter<String, String> accessTokenCache;
+    private final TokenRefresher tokenRefresher;
 
     public Mono<String> authenticate() {
-        return accessTokenCache.get(getKey())
-                .switchIfEmpty(Mono.defer(this::tokenUsingSecret))
+        return tokenRefresher.token(getKey(), this::tokenUsingSecret)
                 .map(token -> format("%s %s", "Bearer", token));
     }
 
@@ -29,10 +27,8 @@ public class IdentityService {
         return "gateway:gateway:accessToken";
     }
 
-    private Mono<String> tokenUsingSecret() {
-        return identityServiceClient.getTokenFor(properties.getClientId(), properties.getClientSecret())
-                .flatMap(session -> accessTokenCache.put(getKey(), session.getAccessToken())
-                        .thenReturn(session.getAccessToken()));
+    private Mono<Session> tokenUsingSecret() {
+        return identityServiceClient.getTokenFor(properties.getClientId(), properties.getClientSecret());
     }
 
     public Mono<Session> getTokenFor(SessionRequest request) {
@@ -0,0 +1,17 @@
+package in.projecteka.gateway.common;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.offload")
+@Value
+@Builder
+@ConstructorBinding
+public class OffloadOptions {
+    public final int threads;
+    public final int maxConcurrencyPerTarget;
+    public final int queueCapacity;
+    public final SheddingPolicy sheddingPolicy;
+}
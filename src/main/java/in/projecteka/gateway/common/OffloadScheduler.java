@@ -0,0 +1,112 @@
+package in.projecteka.gateway.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static in.projecteka.gateway.clients.ClientError.tooManyRequests;
+
+public class OffloadScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(OffloadScheduler.class);
+
+    private final OffloadOptions offloadOptions;
+    private final Scheduler scheduler;
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private final Counter spilled;
+
+    public OffloadScheduler(OffloadOptions offloadOptions, Scheduler scheduler, MeterRegistry meterRegistry) {
+        this.offloadOptions = offloadOptions;
+        this.scheduler = scheduler;
+        meterRegistry.gauge("gateway.offload.queue.depth", queueDepth);
+        meterRegistry.gauge("gateway.offload.in.flight", inFlight);
+        this.rejected = meterRegistry.counter("gateway.offload.shed", "policy", SheddingPolicy.REJECT.name());
+        this.spilled = meterRegistry.counter("gateway.offload.shed", "policy", SheddingPolicy.SPILL.name());
+    }
+
+    public Mono<Void> submit(String targetId, Mono<Void> task, Supplier<Mono<Void>> spill) {
+        return Mono.defer(() -> {
+            if (offer(targetId, task)) {
+                return Mono.empty();
+            }
+            if (offloadOptions.getSheddingPolicy() == SheddingPolicy.SPILL) {
+                spilled.increment();
+                logger.warn("Offload queue is full, spilling request for {}", targetId);
+                return spill.get().onErrorMap(throwable -> {
+                    logger.error(throwable.getMessage(), throwable);
+                    return tooManyRequests();
+                });
+            }
+            rejected.increment();
+            logger.warn("Offload queue is full, rejecting request for {}", targetId);
+            return Mono.error(tooManyRequests());
+        });
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public void close() {
+        scheduler.dispose();
+    }
+
+    private boolean offer(String targetId, Mono<Void> task) {
+        var target = targets.computeIfAbsent(targetId, id -> new Target());
+        synchronized (target) {
+            if (target.inFlight >= offloadOptions.getMaxConcurrencyPerTarget()) {
+                if (queueDepth.incrementAndGet() > offloadOptions.getQueueCapacity()) {
+                    queueDepth.decrementAndGet();
+                    return false;
+                }
+                target.pending.add(task);
+                return true;
+            }
+            target.inFlight++;
+            inFlight.incrementAndGet();
+        }
+        run(target, task);
+        return true;
+    }
+
+    private void run(Target target, Mono<Void> task) {
+        task.subscribeOn(scheduler)
+                .doFinally(signalType -> runNext(target))
+                .subscribe(null, throwable -> logger.error(throwable.getMessage(), throwable));
+    }
+
+    private void runNext(Target target) {
+        Mono<Void> next;
+        synchronized (target) {
+            next = target.pending.poll();
+            if (next == null) {
+                target.inFlight--;
+                inFlight.decrementAndGet();
+                return;
+            }
+            queueDepth.decrementAndGet();
+        }
+        run(target, next);
+    }
+
+    private static class Target {
+        private final Queue<Mono<Void>> pending = new ArrayDeque<>();
+        private int inFlight;
+    }
+}
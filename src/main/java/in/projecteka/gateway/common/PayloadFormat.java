@@ -0,0 +1,37 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.util.Arrays;
+
+public enum PayloadFormat {
+    JSON("application/json", Serializer.objectMapper),
+    SMILE("application/x-jackson-smile", Serializer.withModules(new ObjectMapper(new SmileFactory())));
+
+    private final String contentType;
+    private final ObjectMapper mapper;
+
+    PayloadFormat(String contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.mapper = mapper;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * Messages published before the content type header was set are JSON.
+     */
+    public static PayloadFormat of(String contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equals(contentType))
+                .findFirst()
+                .orElse(JSON);
+    }
+}
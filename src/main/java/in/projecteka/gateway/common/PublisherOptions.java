@@ -0,0 +1,17 @@
+package in.projecteka.gateway.common;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.publisher")
+@Value
+@Builder
+@ConstructorBinding
+public class PublisherOptions {
+    public final int batchSize;
+    public final int batchWait;
+    public final int maxAttempts;
+    public final int confirmTimeout;
+}
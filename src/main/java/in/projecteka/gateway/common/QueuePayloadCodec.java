@@ -0,0 +1,40 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+import static in.projecteka.gateway.common.Serializer.ERROR_IN_SERIALIZING_REQUEST_BODY;
+
+/**
+ * Encodes retry queue payloads in the configured format and decodes them by the message's content type, so queues
+ * still holding JSON messages drain after the format is switched.
+ */
+@AllArgsConstructor
+public class QueuePayloadCodec {
+    private static final Logger logger = LoggerFactory.getLogger(QueuePayloadCodec.class);
+
+    private final PayloadFormat format;
+
+    public String contentType() {
+        return format.contentType();
+    }
+
+    public Optional<byte[]> encode(TraceableMessage message) {
+        try {
+            return Optional.of(format.mapper().writeValueAsBytes(message));
+        } catch (JsonProcessingException e) {
+            logger.error(ERROR_IN_SERIALIZING_REQUEST_BODY, e);
+            return Optional.empty();
+        }
+    }
+
+    @SneakyThrows
+    public TraceableMessage decode(String contentType, byte[] body) {
+        return PayloadFormat.of(contentType).mapper().readValue(body, TraceableMessage.class);
+    }
+}
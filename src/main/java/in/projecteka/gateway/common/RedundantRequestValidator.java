@@ -5,9 +5,9 @@ import in.projecteka.gateway.common.cache.CacheAdapter;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +19,7 @@ import static org.springframework.util.StringUtils.hasText;
 
 @AllArgsConstructor
 public class RedundantRequestValidator {
+    public static final Duration ACCEPTANCE_WINDOW = Duration.ofMinutes(10);
     private static final Logger logger = LoggerFactory.getLogger(RedundantRequestValidator.class);
     final CacheAdapter<String, String> requestIdTimestampMappings;
     final String keyPrefix;
@@ -27,18 +28,26 @@ public class RedundantRequestValidator {
         return hasText(keyPrefix) ? format("%s_%s", keyPrefix, requestId) : requestId;
     }
 
-    public Mono<Void> put(String requestId, String timestamp) {
-        return requestIdTimestampMappings.put(keyFor(requestId), timestamp);
+    public Mono<Void> release(RequestEnvelope envelope) {
+        return release(envelope.getRequestId());
     }
 
-    public Mono<Boolean> validate(String requestId, String timestamp) {
-        return isRequestIdPresent(keyFor(requestId))
-                .flatMap(result -> Mono.error(ClientError.tooManyRequests()))
-                .then(Mono.just(isRequestIdValidInGivenTimestamp(timestamp)));
+    public Mono<Void> release(String requestId) {
+        return requestIdTimestampMappings.invalidate(keyFor(requestId));
+    }
+
+    public Mono<Boolean> validate(RequestEnvelope envelope) {
+        return validate(envelope.getRequestId(), envelope.getTimestamp());
     }
 
-    private Mono<Boolean> isRequestIdPresent(String requestId) {
-        return requestIdTimestampMappings.get(requestId).map(StringUtils::hasText);
+    public Mono<Boolean> validate(String requestId, String timestamp) {
+        if (!isRequestIdValidInGivenTimestamp(timestamp)) {
+            return Mono.just(false);
+        }
+        return requestIdTimestampMappings.putIfAbsent(keyFor(requestId), timestamp)
+                .flatMap(stored -> stored
+                                   ? Mono.just(true)
+                                   : Mono.error(ClientError.tooManyRequests()));
     }
 
     private boolean isRequestIdValidInGivenTimestamp(String timestamp) {
@@ -62,7 +71,7 @@ public class RedundantRequestValidator {
     private boolean isValidTimestamp(LocalDateTime timestamp) {
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
         LocalDateTime startTime = currentTime.minusMinutes(1);
-        LocalDateTime endTime = currentTime.plusMinutes(9);
+        LocalDateTime endTime = startTime.plus(ACCEPTANCE_WINDOW);
         return timestamp.isAfter(startTime) && timestamp.isBefore(endTime);
     }
 }
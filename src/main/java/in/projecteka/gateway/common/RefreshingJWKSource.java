@@ -0,0 +1,142 @@
+package in.projecteka.gateway.common;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import in.projecteka.gateway.clients.JwksProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * JWK source that never blocks the caller on the identity provider. Keys start from the last snapshot written to
+ * disk (if any), are refetched in the background every refresh interval, and a token signed with an unknown
+ * {@code kid} triggers an early refetch at most once per minimum refetch interval. Until that refetch lands such
+ * a token is rejected, exactly as it would be with a stale key set.
+ */
+public class RefreshingJWKSource implements JWKSource<SecurityContext> {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshingJWKSource.class);
+
+    private final Callable<JWKSet> remote;
+    private final JwksProperties properties;
+    private final Scheduler fetchScheduler;
+    private final LongSupplier clock;
+    private final AtomicBoolean fetching = new AtomicBoolean();
+    private final AtomicLong lastFetch = new AtomicLong();
+    private volatile JWKSet current = new JWKSet();
+    private Disposable refresher;
+
+    public RefreshingJWKSource(Callable<JWKSet> remote, JwksProperties properties, Scheduler fetchScheduler) {
+        this(remote, properties, fetchScheduler, System::currentTimeMillis);
+    }
+
+    RefreshingJWKSource(Callable<JWKSet> remote,
+                        JwksProperties properties,
+                        Scheduler fetchScheduler,
+                        LongSupplier clock) {
+        this.remote = remote;
+        this.properties = properties;
+        this.fetchScheduler = fetchScheduler;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        loadSnapshot();
+        refresher = Flux.interval(Duration.ZERO, Duration.ofSeconds(properties.getRefreshInterval()))
+                .subscribe(tick -> refresh());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        var matches = jwkSelector.select(current);
+        if (matches.isEmpty() && clock.getAsLong() - lastFetch.get() >= properties.getMinRefetchInterval() * 1000L) {
+            logger.info("No matching key in the JWK set, refetching");
+            refresh();
+        }
+        return matches;
+    }
+
+    JWKSet current() {
+        return current;
+    }
+
+    void refresh() {
+        if (!fetching.compareAndSet(false, true)) {
+            return;
+        }
+        lastFetch.set(clock.getAsLong());
+        Mono.fromCallable(remote)
+                .subscribeOn(fetchScheduler)
+                .doFinally(signal -> fetching.set(false))
+                .subscribe(this::update,
+                        throwable -> logger.error("Failed to fetch the JWK set", throwable));
+    }
+
+    private void update(JWKSet jwkSet) {
+        current = jwkSet;
+        saveSnapshot(jwkSet);
+    }
+
+    private void loadSnapshot() {
+        if (!StringUtils.hasText(properties.getSnapshotPath())) {
+            return;
+        }
+        var path = Paths.get(properties.getSnapshotPath());
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            current = JWKSet.load(path.toFile());
+        } catch (IOException | ParseException e) {
+            logger.error("Failed to load the JWK set snapshot from {}", path, e);
+        }
+    }
+
+    private void saveSnapshot(JWKSet jwkSet) {
+        if (!StringUtils.hasText(properties.getSnapshotPath())) {
+            return;
+        }
+        var path = Paths.get(properties.getSnapshotPath());
+        try {
+            var parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            Files.write(temporary, jwkSet.toJSONObject(true).toJSONString().getBytes(UTF_8));
+            Files.move(temporary, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Failed to write the JWK set snapshot to {}", path, e);
+        }
+    }
+}
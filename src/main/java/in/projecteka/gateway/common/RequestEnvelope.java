@@ -0,0 +1,161 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import in.projecteka.gateway.common.RequestFieldExtractor.RequestFields;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static in.projecteka.gateway.common.Constants.REQUEST_ID;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class RequestEnvelope {
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private static final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Getter
+    private final HttpHeaders headers;
+    @Getter
+    private final byte[] body;
+    private final RequestFields fields;
+    private final List<Replacement> replacements;
+    private Optional<Map<String, Object>> deSerializedRequest;
+
+    private RequestEnvelope(HttpHeaders headers, byte[] body, RequestFields fields, List<Replacement> replacements) {
+        this.headers = headers;
+        this.body = body;
+        this.fields = fields;
+        this.replacements = replacements;
+    }
+
+    public static RequestEnvelope from(HttpEntity<String> requestEntity) {
+        var body = bodyOf(requestEntity);
+        return new RequestEnvelope(requestEntity.getHeaders(), body, RequestFieldExtractor.extract(body), List.of());
+    }
+
+    public static RequestEnvelope fromResponse(HttpEntity<String> responseEntity) {
+        var body = bodyOf(responseEntity);
+        return new RequestEnvelope(responseEntity.getHeaders(),
+                body,
+                RequestFieldExtractor.extractResponse(body),
+                List.of());
+    }
+
+    private static byte[] bodyOf(HttpEntity<String> entity) {
+        var body = entity.getBody();
+        return body == null ? EMPTY_BODY : body.getBytes(UTF_8);
+    }
+
+    public Optional<Map<String, Object>> getDeSerializedRequest() {
+        if (deSerializedRequest == null) {
+            deSerializedRequest = Serializer.deserialize(toByteArray());
+        }
+        return deSerializedRequest;
+    }
+
+    public Optional<JsonNode> getDeSerializedJsonNode() {
+        return Serializer.deserializeAsJsonNode(toByteArray());
+    }
+
+    public String getRequestId() {
+        return fields.getRequestId();
+    }
+
+    public String getTimestamp() {
+        return fields.getTimestamp();
+    }
+
+    public String getRespRequestId() {
+        return fields.getRespRequestId();
+    }
+
+    public RequestEnvelope withRequestIds(String requestId, String respRequestId) {
+        var updated = new ArrayList<Replacement>();
+        var requestIdSpan = fields.getRequestIdSpan();
+        if (requestIdSpan != null) {
+            updated.add(new Replacement(requestIdSpan.getStart(),
+                    requestIdSpan.getEnd(),
+                    quoted(requestId).getBytes(UTF_8)));
+        } else if (fields.getObjectStart() >= 0) {
+            var insertAt = fields.getObjectStart() + 1;
+            var requestIdField = quoted(REQUEST_ID) + ":" + quoted(requestId) + ",";
+            updated.add(new Replacement(insertAt, insertAt, requestIdField.getBytes(UTF_8)));
+        } else {
+            throw new IllegalStateException("Body is not a json object");
+        }
+        var respRequestIdSpan = fields.getRespRequestIdSpan();
+        if (respRequestId != null && respRequestIdSpan != null) {
+            updated.add(new Replacement(respRequestIdSpan.getStart(),
+                    respRequestIdSpan.getEnd(),
+                    quoted(respRequestId).getBytes(UTF_8)));
+        }
+        updated.sort(Comparator.comparingInt(Replacement::getStart));
+        return new RequestEnvelope(headers, body, fields, List.copyOf(updated));
+    }
+
+    public long getContentLength() {
+        long length = body.length;
+        for (Replacement replacement : replacements) {
+            length += replacement.getValue().length - (replacement.getEnd() - replacement.getStart());
+        }
+        return length;
+    }
+
+    public Flux<DataBuffer> toDataBuffers() {
+        return Flux.defer(() -> {
+            var buffers = new ArrayList<DataBuffer>(replacements.size() * 2 + 1);
+            var position = 0;
+            for (Replacement replacement : replacements) {
+                buffers.add(wrap(body, position, replacement.getStart() - position));
+                buffers.add(wrap(replacement.getValue(), 0, replacement.getValue().length));
+                position = replacement.getEnd();
+            }
+            buffers.add(wrap(body, position, body.length - position));
+            return Flux.fromIterable(buffers);
+        });
+    }
+
+    private byte[] toByteArray() {
+        if (replacements.isEmpty()) {
+            return body;
+        }
+        var output = new ByteArrayOutputStream((int) getContentLength());
+        var position = 0;
+        for (Replacement replacement : replacements) {
+            output.write(body, position, replacement.getStart() - position);
+            output.writeBytes(replacement.getValue());
+            position = replacement.getEnd();
+        }
+        output.write(body, position, body.length - position);
+        return output.toByteArray();
+    }
+
+    private static DataBuffer wrap(byte[] bytes, int offset, int length) {
+        return bufferFactory.wrap(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    private static String quoted(String value) {
+        return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class Replacement {
+        private final int start;
+        private final int end;
+        private final byte[] value;
+    }
+}
@@ -0,0 +1,149 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static in.projecteka.gateway.common.Constants.REQUEST_ID;
+import static in.projecteka.gateway.common.Constants.TIMESTAMP;
+
+public class RequestFieldExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(RequestFieldExtractor.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final String RESP = "resp";
+
+    private RequestFieldExtractor() {
+    }
+
+    public static RequestFields extract(byte[] body) {
+        return scan(body, false);
+    }
+
+    public static RequestFields extractResponse(byte[] body) {
+        return scan(body, true);
+    }
+
+    private static RequestFields scan(byte[] body, boolean response) {
+        var fields = new FieldCollector();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return RequestFields.EMPTY;
+            }
+            fields.objectStart = (int) parser.getTokenLocation().getByteOffset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.getCurrentName();
+                var valueToken = parser.nextToken();
+                if (REQUEST_ID.equals(fieldName)) {
+                    rejectDuplicate(fields.requestIdSpan != null, fieldName);
+                    fields.requestIdSpan = spanOf(parser, valueToken);
+                    fields.requestId = fields.requestIdSpan.getText();
+                } else if (!response && TIMESTAMP.equals(fieldName)) {
+                    rejectDuplicate(fields.timestampFound, fieldName);
+                    fields.timestampFound = true;
+                    fields.timestamp = spanOf(parser, valueToken).getText();
+                } else if (response && RESP.equals(fieldName)) {
+                    rejectDuplicate(fields.respFound, fieldName);
+                    fields.respFound = true;
+                    if (valueToken == JsonToken.START_OBJECT) {
+                        fields.respRequestIdSpan = nestedRequestIdSpan(parser);
+                        fields.respRequestId = fields.respRequestIdSpan == null
+                                               ? null
+                                               : fields.respRequestIdSpan.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (DuplicateFieldException e) {
+            logger.error(e.getMessage());
+            return RequestFields.EMPTY;
+        } catch (IOException e) {
+            logger.error(Serializer.ERROR_IN_DE_SERIALISE, e);
+            return RequestFields.EMPTY;
+        }
+        return fields.toRequestFields();
+    }
+
+    private static Span nestedRequestIdSpan(JsonParser parser) throws IOException {
+        Span span = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.getCurrentName();
+            var valueToken = parser.nextToken();
+            if (REQUEST_ID.equals(fieldName)) {
+                rejectDuplicate(span != null, RESP + "." + fieldName);
+                span = spanOf(parser, valueToken);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return span;
+    }
+
+    /**
+     * Jackson keeps the last of duplicate keys while the fields here are read from the first, so a payload with
+     * duplicates could be validated on one value and delivered with another.
+     */
+    private static void rejectDuplicate(boolean alreadyFound, String fieldName) throws DuplicateFieldException {
+        if (alreadyFound) {
+            throw new DuplicateFieldException(fieldName);
+        }
+    }
+
+    private static Span spanOf(JsonParser parser, JsonToken valueToken) throws IOException {
+        var start = (int) parser.getTokenLocation().getByteOffset();
+        String text = null;
+        if (valueToken == JsonToken.VALUE_STRING) {
+            text = parser.getText();
+        } else {
+            parser.skipChildren();
+        }
+        return new Span(start, (int) parser.getCurrentLocation().getByteOffset(), text);
+    }
+
+    private static class FieldCollector {
+        int objectStart;
+        String requestId;
+        Span requestIdSpan;
+        String timestamp;
+        boolean timestampFound;
+        boolean respFound;
+        String respRequestId;
+        Span respRequestIdSpan;
+
+        RequestFields toRequestFields() {
+            return new RequestFields(requestId, timestamp, respRequestId, objectStart, requestIdSpan, respRequestIdSpan);
+        }
+    }
+
+    @Value
+    public static class RequestFields {
+        static final RequestFields EMPTY = new RequestFields(null, null, null, -1, null, null);
+
+        String requestId;
+        String timestamp;
+        String respRequestId;
+        int objectStart;
+        Span requestIdSpan;
+        Span respRequestIdSpan;
+    }
+
+    private static class DuplicateFieldException extends IOException {
+        DuplicateFieldException(String fieldName) {
+            super(String.format("Duplicate %s found on the payload", fieldName));
+        }
+    }
+
+    @Value
+    public static class Span {
+        int start;
+        int end;
+        String text;
+    }
+}
@@ -20,7 +20,6 @@ import java.util.concurrent.TimeoutException;
 import static in.projecteka.gateway.clients.model.Error.unKnownError;
 import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
 import static in.projecteka.gateway.common.Constants.REQUEST_ID;
-import static in.projecteka.gateway.common.Constants.TIMESTAMP;
 import static in.projecteka.gateway.common.Constants.nameMap;
 import static net.logstash.logback.argument.StructuredArguments.keyValue;
 
@@ -32,6 +31,7 @@ public class RequestOrchestrator<T extends ServiceClient> {
     Validator validator;
     T serviceClient;
     ValidatedRequestAction requestAction;
+    OffloadScheduler offloadScheduler;
 
     public Mono<Void> handleThis(HttpEntity<String> maybeRequest,
                                  String targetRoutingKey,
@@ -42,25 +42,23 @@ public class RequestOrchestrator<T extends ServiceClient> {
                 .flatMap(context -> {
                     apiCalled.append((String) context.get("apiCalled"));
                     return validator.validateRequest(maybeRequest, targetRoutingKey);
-                }).doOnSuccess(request -> offloadThis(request,
-                        targetRoutingKey,
-                        sourceRoutingKey,
-                        clientId,
-                        apiCalled.toString()))
-                .then();
+                }).flatMap(request -> offloadScheduler.submit(request.getClientId(),
+                        offloadThis(request, targetRoutingKey, sourceRoutingKey, clientId, apiCalled.toString()),
+                        () -> spill(request, clientId, targetRoutingKey))
+                        .onErrorResume(throwable -> redundantRequestValidator.release(request.getEnvelope())
+                                .then(Mono.error(throwable))));
     }
 
-    private void offloadThis(ValidatedRequest validatedRequest,
-                             String targetRoutingKey,
-                             String sourceRoutingKey,
-                             String clientId,
-                             String apiCalled) {
-        Mono.defer(() -> {
+    private Mono<Void> offloadThis(ValidatedRequest validatedRequest,
+                                   String targetRoutingKey,
+                                   String sourceRoutingKey,
+                                   String clientId,
+                                   String apiCalled) {
+        var correlationId = Optional.ofNullable(MDC.get(CORRELATION_ID)).orElseGet(() -> UUID.randomUUID().toString());
+        return Mono.defer(() -> {
             var gatewayRequestId = UUID.randomUUID();
             var downstreamRequestId = gatewayRequestId.toString();
-            var request = validatedRequest.getDeSerializedRequest();
             var upstreamRequestId = validatedRequest.getRequesterRequestId();
-            request.put(REQUEST_ID, gatewayRequestId);
 
             logger.info("Received a request {} {} {} {} {} {}", keyValue("requestId", upstreamRequestId)
                     , keyValue("source", nameMap.get(sourceRoutingKey))
@@ -69,14 +67,12 @@ public class RequestOrchestrator<T extends ServiceClient> {
                     , keyValue("target", nameMap.get(targetRoutingKey))
                     , keyValue("targetId", validatedRequest.getClientId()));
 
-            return requestIdMappings.put(downstreamRequestId, upstreamRequestId.toString())
-                    .then(redundantRequestValidator.put(upstreamRequestId.toString(), request.get(TIMESTAMP).toString()))
-                    .thenReturn(request)
-                    .flatMap(updatedRequest -> {
+            return remember(downstreamRequestId, validatedRequest)
+                    .then(Mono.defer(() -> {
                         logger.info("About to call a target {} {}", keyValue("requestId", upstreamRequestId)
                                 , keyValue("gatewayId", gatewayRequestId));
-                        return requestAction.execute(clientId, validatedRequest.getClientId(), updatedRequest, targetRoutingKey);
-                    })
+                        return execute(validatedRequest, gatewayRequestId, clientId, targetRoutingKey);
+                    }))
                     .onErrorMap(ClientError.class,
                             clientError -> {
                                 logger.error(clientError.getMessage(), clientError);
@@ -99,11 +95,27 @@ public class RequestOrchestrator<T extends ServiceClient> {
                                 logger.error("Notifying caller about the failure", errorResult);
                                 serviceClient.notifyError(clientId, sourceRoutingKey, errorResult).subscribe();
                             });
-        }).subscriberContext(ctx -> {
-            Optional<String> correlationId = Optional.ofNullable(MDC.get(CORRELATION_ID));
-            return correlationId.map(id -> ctx.put(CORRELATION_ID, id))
-                    .orElseGet(() -> ctx.put(CORRELATION_ID, UUID.randomUUID().toString()));
-        }).subscribe();
+        }).subscriberContext(ctx -> ctx.put(CORRELATION_ID, correlationId));
+    }
+
+    private Mono<Void> spill(ValidatedRequest validatedRequest, String sourceId, String targetRoutingKey) {
+        var gatewayRequestId = UUID.randomUUID();
+        var request = validatedRequest.getDeSerializedRequest();
+        request.put(REQUEST_ID, gatewayRequestId);
+        return remember(gatewayRequestId.toString(), validatedRequest)
+                .then(requestAction.spill(sourceId, validatedRequest.getClientId(), request, targetRoutingKey));
+    }
+
+    private Mono<Void> remember(String downstreamRequestId, ValidatedRequest validatedRequest) {
+        return requestIdMappings.put(downstreamRequestId, validatedRequest.getRequesterRequestId().toString());
+    }
+
+    private Mono<Void> execute(ValidatedRequest validatedRequest,
+                               UUID gatewayRequestId,
+                               String sourceId,
+                               String targetRoutingKey) {
+        var envelope = validatedRequest.getEnvelope().withRequestIds(gatewayRequestId.toString(), null);
+        return requestAction.execute(sourceId, validatedRequest.getClientId(), envelope, targetRoutingKey);
     }
 
     private ErrorResult from(Error error, UUID requestId) {
@@ -10,6 +10,7 @@ import reactor.core.publisher.Mono;
 import java.util.Optional;
 import java.util.UUID;
 
+import static in.projecteka.gateway.clients.ClientError.invalidRequest;
 import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
 import static in.projecteka.gateway.common.Constants.nameMap;
 import static in.projecteka.gateway.common.Utils.updateRequestId;
@@ -19,6 +20,7 @@ import static net.logstash.logback.argument.StructuredArguments.keyValue;
 public class ResponseOrchestrator {
     Validator validator;
     ValidatedResponseAction validatedResponseAction;
+    OffloadScheduler offloadScheduler;
     private static final Logger logger = LoggerFactory.getLogger(ResponseOrchestrator.class);
 
     public Mono<Void> processResponse(HttpEntity<String> maybeResponse, String routingKey) {
@@ -27,22 +29,37 @@ public class ResponseOrchestrator {
                 .flatMap(context -> {
                     apiCalled.append((String) context.get("apiCalled"));
                     return validator.validateResponse(maybeResponse, routingKey);
-                }).doOnSuccess(validatedResponse -> offloadThis(validatedResponse, routingKey, apiCalled.toString()))
-                .then();
+                }).flatMap(response -> offloadScheduler.submit(response.getId(),
+                        offloadThis(response, routingKey, apiCalled.toString()),
+                        () -> spill(response, routingKey)));
     }
 
-    private void offloadThis(ValidatedResponse response, String routingKey, String apiCalled) {
-        Mono.defer(() -> {
-            var updatedJsonNode = updateRequestId(response.getDeSerializedJsonNode(), response.getCallerRequestId());
+    private Mono<Void> offloadThis(ValidatedResponse response, String routingKey, String apiCalled) {
+        var correlationId = Optional.ofNullable(MDC.get(CORRELATION_ID)).orElseGet(() -> UUID.randomUUID().toString());
+        return Mono.defer(() -> {
             logger.info("Passing the response back {} {} {} {}", keyValue("requestId", response.getCallerRequestId())
                     , keyValue("target", nameMap.get(routingKey))
                     , keyValue("targetId", response.getId())
                     , keyValue("apiCalled", apiCalled));
+            if (response.isPassThrough()) {
+                var envelope = response.getEnvelope()
+                        .withRequestIds(UUID.randomUUID().toString(), response.getCallerRequestId());
+                return validatedResponseAction.execute(response.getId(), envelope, routingKey);
+            }
+            var updatedJsonNode = updateRequestId(response.getDeSerializedJsonNode(), response.getCallerRequestId());
             return validatedResponseAction.execute(response.getId(), updatedJsonNode, routingKey);
-        }).subscriberContext(ctx -> {
-            Optional<String> correlationId = Optional.ofNullable(MDC.get(CORRELATION_ID));
-            return correlationId.map(id -> ctx.put(CORRELATION_ID, id))
-                    .orElseGet(() -> ctx.put(CORRELATION_ID, UUID.randomUUID().toString()));
-        }).subscribe();
+        }).subscriberContext(ctx -> ctx.put(CORRELATION_ID, correlationId));
+    }
+
+    private Mono<Void> spill(ValidatedResponse response, String routingKey) {
+        if (!response.isPassThrough()) {
+            var updatedJsonNode = updateRequestId(response.getDeSerializedJsonNode(), response.getCallerRequestId());
+            return validatedResponseAction.spill(response.getId(), updatedJsonNode, routingKey);
+        }
+        return Mono.justOrEmpty(response.getEnvelope()
+                .withRequestIds(UUID.randomUUID().toString(), response.getCallerRequestId())
+                .getDeSerializedJsonNode())
+                .switchIfEmpty(Mono.defer(() -> Mono.error(invalidRequest("Invalid response payload"))))
+                .flatMap(updatedJsonNode -> validatedResponseAction.spill(response.getId(), updatedJsonNode, routingKey));
     }
 }
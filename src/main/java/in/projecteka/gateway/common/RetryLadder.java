@@ -0,0 +1,122 @@
+package in.projecteka.gateway.common;
+
+import com.google.common.primitives.Ints;
+import com.rabbitmq.client.AMQP;
+import in.projecteka.gateway.common.cache.ServiceOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.QueueSpecification;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import static in.projecteka.gateway.common.Constants.GW_EXCHANGE;
+import static in.projecteka.gateway.common.Constants.GW_PARKING_EXCHANGE;
+import static in.projecteka.gateway.common.Constants.X_RETRY_ATTEMPT;
+
+/**
+ * Broker side retries. A failed delivery is republished to {@code <queue>.retry.<attempt>}, a queue without
+ * consumers which dead-letters it back to {@code <queue>} through gw.exchange once its per-message TTL expires.
+ * TTLs grow exponentially with jitter; after {@code responseMaxRetryAttempts} the delivery is moved to
+ * gw.parkinglot instead.
+ */
+public class RetryLadder {
+    private static final Logger logger = LoggerFactory.getLogger(RetryLadder.class);
+    private static final String DEFAULT_EXCHANGE = "";
+    private static final int PERSISTENT = 2;
+
+    private final ConfirmedPublisher publisher;
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final RetryLadderOptions options;
+    private final DoubleSupplier random;
+
+    public RetryLadder(ConfirmedPublisher publisher, ServiceOptions serviceOptions, RetryLadderOptions options) {
+        this(publisher, serviceOptions, options, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RetryLadder(ConfirmedPublisher publisher,
+                ServiceOptions serviceOptions,
+                RetryLadderOptions options,
+                DoubleSupplier random) {
+        this.publisher = publisher;
+        this.maxAttempts = serviceOptions.getResponseMaxRetryAttempts();
+        this.initialDelay = serviceOptions.getRetryAttemptsDelay();
+        this.options = options;
+        this.random = random;
+    }
+
+    public static String delayQueue(String queue, int attempt) {
+        return String.format("%s.retry.%d", queue, attempt);
+    }
+
+    public static int attempt(AcknowledgableDelivery delivery) {
+        var headers = delivery.getProperties().getHeaders();
+        var value = headers == null ? null : headers.get(X_RETRY_ATTEMPT);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        var parsed = value == null ? null : Ints.tryParse(value.toString());
+        return parsed == null ? 0 : parsed;
+    }
+
+    /**
+     * Completes once every delay queue of {@code queue} exists, retrying until the broker accepts the declarations;
+     * retries published before that would go to the default exchange with no queue to route to and be dropped.
+     */
+    public Mono<Void> declare(String queue) {
+        return Flux.range(1, maxAttempts)
+                .flatMap(attempt -> publisher.declareQueue(QueueSpecification.queue(delayQueue(queue, attempt))
+                        .durable(true)
+                        .arguments(Map.of("x-dead-letter-exchange", GW_EXCHANGE,
+                                "x-dead-letter-routing-key", queue,
+                                "x-queue-type", "classic"))))
+                .then()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> logger.error("Failed to declare retry queues for {}; retrying",
+                                queue,
+                                signal.failure())));
+    }
+
+    public Mono<Void> retryOrPark(String queue, AcknowledgableDelivery delivery) {
+        var attempt = attempt(delivery) + 1;
+        var headers = new HashMap<String, Object>();
+        if (delivery.getProperties().getHeaders() != null) {
+            headers.putAll(delivery.getProperties().getHeaders());
+        }
+        headers.put(X_RETRY_ATTEMPT, attempt);
+        var properties = new AMQP.BasicProperties.Builder()
+                .headers(headers)
+                .contentType(delivery.getProperties().getContentType())
+                .deliveryMode(PERSISTENT);
+        if (attempt > maxAttempts) {
+            logger.warn("Retries exhausted for delivery from {}; moving it to the parking lot", queue);
+            return publisher.publish(new OutboundMessage(GW_PARKING_EXCHANGE,
+                    queue,
+                    properties.build(),
+                    delivery.getBody()));
+        }
+        var delay = delay(attempt);
+        logger.info("Retrying delivery from {} in {} ms (attempt {})", queue, delay.toMillis(), attempt);
+        return publisher.publish(new OutboundMessage(DEFAULT_EXCHANGE,
+                delayQueue(queue, attempt),
+                properties.expiration(String.valueOf(delay.toMillis())).build(),
+                delivery.getBody()));
+    }
+
+    Duration delay(int attempt) {
+        var exponential = Math.min(options.getMaxDelay(),
+                initialDelay * Math.pow(options.getMultiplier(), attempt - 1.0));
+        var jittered = exponential * (1 - options.getJitter() + 2 * options.getJitter() * random.getAsDouble());
+        return Duration.ofMillis(Math.max(1, Math.round(jittered)));
+    }
+}
@@ -0,0 +1,16 @@
+package in.projecteka.gateway.common;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.retry-ladder")
+@Value
+@Builder
+@ConstructorBinding
+public class RetryLadderOptions {
+    public final double multiplier;
+    public final int maxDelay;
+    public final double jitter;
+}
@@ -1,11 +1,8 @@
 package in.projecteka.gateway.common;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.LongString;
 import in.projecteka.gateway.clients.ServiceClient;
-import in.projecteka.gateway.common.cache.ServiceOptions;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,13 +11,9 @@ import reactor.core.publisher.Mono;
 import reactor.rabbitmq.AcknowledgableDelivery;
 import reactor.rabbitmq.OutboundMessage;
 import reactor.rabbitmq.Receiver;
-import reactor.rabbitmq.Sender;
-import reactor.util.retry.Retry;
-import reactor.util.retry.RetryBackoffSpec;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,38 +26,28 @@ public class RetryableValidatedRequestAction<T extends ServiceClient>
         implements ValidatedRequestAction {
     private static final Logger logger = LoggerFactory.getLogger(RetryableValidatedRequestAction.class);
     private final Receiver receiver;
-    private final Sender sender;
+    private final ConfirmedPublisher publisher;
     private final DefaultValidatedRequestAction<T> defaultValidatedRequestAction;
-    private final ServiceOptions serviceOptions;
+    private final ConsumerOptions consumerOptions;
+    private final RetryLadder retryLadder;
+    private final QueuePayloadCodec payloadCodec;
     private final String rabbitMQRoutingKey;
     private final String clientIdRequestHeader;
 
     @PostConstruct
     public void subscribe() {
-        receiver.consumeManualAck(rabbitMQRoutingKey)
-                .subscribe(delivery -> processDelivery(delivery).subscribe());
+        retryLadder.declare(rabbitMQRoutingKey)
+                .doOnSuccess(unused -> DeliveryConsumer.consume(receiver, rabbitMQRoutingKey, consumerOptions, this::processDelivery))
+                .subscribe(null, throwable -> logger.error("Not consuming {}", rabbitMQRoutingKey, throwable));
     }
 
     @PreDestroy
     public void closeConnection() {
         receiver.close();
-        sender.close();
     }
 
-    private RetryBackoffSpec retryConfig(AcknowledgableDelivery delivery) {
-        return Retry
-                .fixedDelay(serviceOptions.getResponseMaxRetryAttempts(), Duration.ofMillis(serviceOptions.getRetryAttemptsDelay()))
-                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
-                    logger.info("Exhausted Retries");
-                    delivery.nack(false);
-                    return new RetryLimitExceededException("Retry limit exceeded for routing the request");
-                });
-    }
-
-    private Map<String, Object> extractRequestData(TraceableMessage traceableMessage){
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(traceableMessage.getMessage(), Map.class);
+    private Map<String, Object> extractRequestData(TraceableMessage traceableMessage) {
+        return Serializer.convert(traceableMessage.getMessage(), Map.class);
     }
 
     @Override
@@ -72,36 +55,56 @@ public class RetryableValidatedRequestAction<T extends ServiceClient>
         return defaultValidatedRequestAction.routeRequest(sourceId, targetId, updatedRequest, routingKey);
     }
 
+    @Override
+    public Mono<Void> routeRequest(String sourceId, String targetId, RequestEnvelope envelope, String routingKey) {
+        return defaultValidatedRequestAction.routeRequest(sourceId, targetId, envelope, routingKey);
+    }
+
    // Todo: need to route response back to the caller ( callerDetails (id,response api) )
     @Override
     public Mono<Void> handleError(Throwable throwable, String id, Map<String, Object> map, String sourceId) {
         logger.error("Error in notifying bridge with result; Will push for retry", throwable);
+        return publish(id, map, sourceId);
+    }
+
+    @Override
+    public Mono<Void> spill(String sourceId, String targetId, Map<String, Object> updatedRequest, String routingKey) {
+        logger.warn("Offload queue is full; Publishing request to queue");
+        return publish(targetId, updatedRequest, sourceId);
+    }
+
+    private Mono<Void> publish(String id, Map<String, Object> map, String sourceId) {
         TraceableMessage traceableMessage = TraceableMessage.builder()
                 .correlationId(MDC.get(CORRELATION_ID))
                 .message(map)
                 .build();
 
-        return Serializer.from(traceableMessage).map(message -> {
+        return payloadCodec.encode(traceableMessage).map(message -> {
             var headers = new HashMap<String, Object>();
             headers.put(clientIdRequestHeader, id);
             headers.put(X_ORIGIN_ID, sourceId);
-            var messageProperties = new AMQP.BasicProperties.Builder().headers(headers).build();
-            OutboundMessage outboundMessage = new OutboundMessage(GW_EXCHANGE, rabbitMQRoutingKey, messageProperties, message.getBytes());
-            return sender.send(Mono.just(outboundMessage));
+            var messageProperties = new AMQP.BasicProperties.Builder()
+                    .headers(headers)
+                    .contentType(payloadCodec.contentType())
+                    .build();
+            OutboundMessage outboundMessage = new OutboundMessage(GW_EXCHANGE, rabbitMQRoutingKey, messageProperties, message);
+            return publisher.publish(outboundMessage);
         }).orElse(Mono.empty());
     }
 
     public Mono<Void> processDelivery(AcknowledgableDelivery delivery) {
-        TraceableMessage traceableMessage = Serializer.to(delivery.getBody(), TraceableMessage.class);
+        TraceableMessage traceableMessage = payloadCodec.decode(delivery.getProperties().getContentType(),
+                delivery.getBody());
         var targetId = (LongString) delivery.getProperties().getHeaders().get(clientIdRequestHeader);
         var sourceId = (LongString) delivery.getProperties().getHeaders().get(X_ORIGIN_ID);
         return Mono.just(traceableMessage)
                 .map(this::extractRequestData)
                 .flatMap((requestData) -> this.routeRequest(sourceId.toString(), targetId.toString(), requestData, clientIdRequestHeader))
-                .doOnSuccess(unused -> delivery.ack())
-                .doOnError(throwable -> logger.error("Error while processing retryable request", throwable))
+                .onErrorResume(throwable -> {
+                    logger.error("Error while processing retryable request", throwable);
+                    return retryLadder.retryOrPark(rabbitMQRoutingKey, delivery);
+                })
                 .doFinally(signalType -> MDC.clear())
-                .retryWhen(retryConfig(delivery))
                 .subscriberContext(ctx -> ctx.put(CORRELATION_ID, traceableMessage.getCorrelationId()));
     }
 }
@@ -1,12 +1,9 @@
 package in.projecteka.gateway.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.LongString;
 import in.projecteka.gateway.clients.ServiceClient;
-import in.projecteka.gateway.common.cache.ServiceOptions;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,13 +12,9 @@ import reactor.core.publisher.Mono;
 import reactor.rabbitmq.AcknowledgableDelivery;
 import reactor.rabbitmq.OutboundMessage;
 import reactor.rabbitmq.Receiver;
-import reactor.rabbitmq.Sender;
-import reactor.util.retry.Retry;
-import reactor.util.retry.RetryBackoffSpec;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.time.Duration;
 import java.util.HashMap;
 
 import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
@@ -32,38 +25,28 @@ public class RetryableValidatedResponseAction<T extends ServiceClient> implement
     private static final Logger logger = LoggerFactory.getLogger(RetryableValidatedResponseAction.class);
 
     private Receiver receiver;
-    private Sender sender;
+    private final ConfirmedPublisher publisher;
     private final DefaultValidatedResponseAction<T> defaultValidatedResponseAction;
-    private final ServiceOptions serviceOptions;
+    private final ConsumerOptions consumerOptions;
+    private final RetryLadder retryLadder;
+    private final QueuePayloadCodec payloadCodec;
     private final String rabbitMQRoutingKey;
     private final String clientIdRequestHeader;
 
     @PostConstruct
     public void subscribe() {
-        receiver.consumeManualAck(rabbitMQRoutingKey)
-                .subscribe(delivery -> this.processDelivery(delivery).subscribe());
+        retryLadder.declare(rabbitMQRoutingKey)
+                .doOnSuccess(unused -> DeliveryConsumer.consume(receiver, rabbitMQRoutingKey, consumerOptions, this::processDelivery))
+                .subscribe(null, throwable -> logger.error("Not consuming {}", rabbitMQRoutingKey, throwable));
     }
 
     @PreDestroy
     public void closeConnection() {
         receiver.close();
-        sender.close();
     }
 
-    private RetryBackoffSpec retryConfig(AcknowledgableDelivery delivery) {
-        return Retry
-                .fixedDelay(serviceOptions.getResponseMaxRetryAttempts(), Duration.ofMillis(serviceOptions.getRetryAttemptsDelay()))
-                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
-                    logger.info("Exhausted Retries");
-                    delivery.nack(false);
-                    return new RetryLimitExceededException("Retry limit exceeded for routing the response");
-                });
-    }
-
-    private JsonNode extractRequestData(TraceableMessage traceableMessage){
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(traceableMessage.getMessage(), JsonNode.class);
+    private JsonNode extractRequestData(TraceableMessage traceableMessage) {
+        return Serializer.convert(traceableMessage.getMessage(), JsonNode.class);
     }
 
     @Override
@@ -71,33 +54,53 @@ public class RetryableValidatedResponseAction<T extends ServiceClient> implement
         return defaultValidatedResponseAction.routeResponse(clientId, updatedRequest, routingKey);
     }
 
+    @Override
+    public Mono<Void> routeResponse(String clientId, RequestEnvelope envelope, String routingKey) {
+        return defaultValidatedResponseAction.routeResponse(clientId, envelope, routingKey);
+    }
+
     @Override
     public Mono<Void> handleError(Throwable throwable, String xClientId, JsonNode jsonNode) {
         logger.error("Error in notifying CM with result; Publishing to queue for retry", throwable);
+        return publish(xClientId, jsonNode);
+    }
+
+    @Override
+    public Mono<Void> spill(String xClientId, JsonNode updatedRequest, String routingKey) {
+        logger.warn("Offload queue is full; Publishing response to queue");
+        return publish(xClientId, updatedRequest);
+    }
+
+    private Mono<Void> publish(String xClientId, JsonNode jsonNode) {
         TraceableMessage traceableMessage = TraceableMessage.builder()
                 .correlationId(MDC.get(CORRELATION_ID))
                 .message(jsonNode)
                 .build();
 
-        return Serializer.from(traceableMessage).map(message -> {
+        return payloadCodec.encode(traceableMessage).map(message -> {
             var headers = new HashMap<String, Object>();
             headers.put(clientIdRequestHeader, xClientId);
-            var messageProperties = new AMQP.BasicProperties.Builder().headers(headers).build();
-            OutboundMessage outboundMessage = new OutboundMessage(GW_EXCHANGE, rabbitMQRoutingKey, messageProperties, message.getBytes());
-            return sender.send(Mono.just(outboundMessage));
+            var messageProperties = new AMQP.BasicProperties.Builder()
+                    .headers(headers)
+                    .contentType(payloadCodec.contentType())
+                    .build();
+            OutboundMessage outboundMessage = new OutboundMessage(GW_EXCHANGE, rabbitMQRoutingKey, messageProperties, message);
+            return publisher.publish(outboundMessage);
         }).orElse(Mono.empty());
     }
 
     public Mono<Void> processDelivery(AcknowledgableDelivery delivery) {
-        TraceableMessage traceableMessage = Serializer.to(delivery.getBody(), TraceableMessage.class);
+        TraceableMessage traceableMessage = payloadCodec.decode(delivery.getProperties().getContentType(),
+                delivery.getBody());
         var xClientId = (LongString) delivery.getProperties().getHeaders().get(clientIdRequestHeader);
         return Mono.just(traceableMessage)
                 .map(this::extractRequestData)
                 .flatMap((requestData) -> this.routeResponse(xClientId.toString(), requestData, clientIdRequestHeader))
-                .doOnSuccess(unused -> delivery.ack())
-                .doOnError(throwable -> logger.error("Error while processing retryable response", throwable))
+                .onErrorResume(throwable -> {
+                    logger.error("Error while processing retryable response", throwable);
+                    return retryLadder.retryOrPark(rabbitMQRoutingKey, delivery);
+                })
                 .doFinally(signalType -> MDC.clear())
-                .retryWhen(retryConfig(delivery))
                 .subscriberContext(ctx -> ctx.put(CORRELATION_ID, traceableMessage.getCorrelationId()));
     }
 }
@@ -21,11 +21,15 @@ public class Serializer {
     private static final Logger logger = LoggerFactory.getLogger(Serializer.class);
     public static final String ERROR_IN_DE_SERIALISE = "Error while de-serialise";
     public static final String ERROR_IN_SERIALIZING_REQUEST_BODY = "Error while serializing request body";
-    static ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()); //TODO
+    static ObjectMapper objectMapper = withModules(new ObjectMapper()); //TODO
 
     private Serializer() {
     }
 
+    static ObjectMapper withModules(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule());
+    }
+
     public static Mono<Map<String, Object>> deserializeRequest(HttpEntity<String> requestEntity) {
         try {
             return Mono.just(objectMapper.readValue(requestEntity.getBody(), new TypeReference<>() {
@@ -55,6 +59,25 @@ public class Serializer {
         }
     }
 
+    public static Optional<Map<String, Object>> deserialize(byte[] body) {
+        try {
+            return Optional.of(objectMapper.readValue(body, new TypeReference<>() {
+            }));
+        } catch (Exception e) {
+            logger.error(ERROR_IN_DE_SERIALISE, e);
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<JsonNode> deserializeAsJsonNode(byte[] body) {
+        try {
+            return Optional.of(objectMapper.readValue(body, JsonNode.class));
+        } catch (Exception e) {
+            logger.error(ERROR_IN_DE_SERIALISE, e);
+            return Optional.empty();
+        }
+    }
+
     public static <T> Optional<String> from(T value) {
         try {
             return Optional.of(objectMapper.writeValueAsString(value));
@@ -64,6 +87,10 @@ public class Serializer {
         }
     }
 
+    public static <T> T convert(Object value, Class<T> type) {
+        return objectMapper.convertValue(value, type);
+    }
+
     @SneakyThrows
     public static <T> T to(byte[] value, Class<T> type) {
         return objectMapper.readValue(value, type);
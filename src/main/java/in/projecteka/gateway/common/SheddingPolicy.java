@@ -0,0 +1,6 @@
+package in.projecteka.gateway.common;
+
+public enum SheddingPolicy {
+    REJECT,
+    SPILL
+}
@@ -0,0 +1,15 @@
+package in.projecteka.gateway.common;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.token-refresh")
+@Value
+@Builder
+@ConstructorBinding
+public class TokenRefreshOptions {
+    public final double refreshFraction;
+    public final int retryInterval;
+}
@@ -0,0 +1,132 @@
+package in.projecteka.gateway.common;
+
+import in.projecteka.gateway.clients.model.Session;
+import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.cache.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Holds a service token in memory and renews it in the background once the configured fraction of its
+ * {@code expires_in} has passed. Callers keep getting the current token while the renewal is in flight, so only the
+ * very first request, or one arriving after the token has actually expired, waits on the identity provider.
+ */
+public class TokenRefresher {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRefresher.class);
+
+    private final String name;
+    private final CacheAdapter<String, String> tokenCache;
+    private final TokenRefreshOptions options;
+    private final Scheduler scheduler;
+    private final LongSupplier clock;
+    private final SingleFlight<String, String> tokenLoads = new SingleFlight<>();
+    private final Counter refreshed;
+    private final Counter failed;
+    private volatile Token current;
+    private volatile Disposable scheduledRefresh;
+
+    public TokenRefresher(String name,
+                          CacheAdapter<String, String> tokenCache,
+                          TokenRefreshOptions options,
+                          Scheduler scheduler,
+                          MeterRegistry meterRegistry) {
+        this(name, tokenCache, options, scheduler, meterRegistry, System::currentTimeMillis);
+    }
+
+    TokenRefresher(String name,
+                   CacheAdapter<String, String> tokenCache,
+                   TokenRefreshOptions options,
+                   Scheduler scheduler,
+                   MeterRegistry meterRegistry,
+                   LongSupplier clock) {
+        this.name = name;
+        this.tokenCache = tokenCache;
+        this.options = options;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.refreshed = meterRegistry.counter("gateway.token.refresh", "token", name, "outcome", "success");
+        this.failed = meterRegistry.counter("gateway.token.refresh", "token", name, "outcome", "failure");
+        meterRegistry.gauge("gateway.token.remaining.seconds", Tags.of("token", name),
+                this, TokenRefresher::remainingSeconds);
+    }
+
+    public Mono<String> token(String key, Supplier<Mono<Session>> fetch) {
+        return Mono.defer(() -> {
+            var token = current;
+            if (token != null && clock.getAsLong() < token.expiresAt) {
+                return Mono.just(token.value);
+            }
+            return tokenLoads.get(tokenCache, key, () -> fetch(key, fetch));
+        });
+    }
+
+    public void close() {
+        var refresh = scheduledRefresh;
+        if (refresh != null) {
+            refresh.dispose();
+        }
+    }
+
+    double remainingSeconds() {
+        var token = current;
+        return token == null ? 0 : Math.max(0, token.expiresAt - clock.getAsLong()) / 1000.0;
+    }
+
+    private Mono<String> fetch(String key, Supplier<Mono<Session>> fetch) {
+        return Mono.defer(() -> {
+            var requestedAt = clock.getAsLong();
+            return fetch.get()
+                    .flatMap(session -> tokenCache.put(key, session.getAccessToken())
+                            .doOnSuccess(stored -> remember(key, session, requestedAt, fetch))
+                            .thenReturn(session.getAccessToken()));
+        });
+    }
+
+    private void remember(String key, Session session, long requestedAt, Supplier<Mono<Session>> fetch) {
+        if (session.getExpiresIn() <= 0) {
+            return;
+        }
+        var lifetime = session.getExpiresIn() * 1000L;
+        current = new Token(session.getAccessToken(), requestedAt + lifetime);
+        schedule(key, fetch, (long) (lifetime * options.getRefreshFraction()));
+    }
+
+    private void schedule(String key, Supplier<Mono<Session>> fetch, long delayInMillis) {
+        close();
+        scheduledRefresh = scheduler.schedule(() -> refresh(key, fetch), delayInMillis, MILLISECONDS);
+    }
+
+    private void refresh(String key, Supplier<Mono<Session>> fetch) {
+        tokenLoads.load(key, () -> fetch(key, fetch))
+                .subscribe(token -> refreshed.increment(),
+                        throwable -> {
+                            failed.increment();
+                            logger.error("Failed to refresh {} token, retrying in {}s",
+                                    name,
+                                    options.getRetryInterval(),
+                                    throwable);
+                            schedule(key, fetch, options.getRetryInterval() * 1000L);
+                        });
+    }
+
+    private static class Token {
+        private final String value;
+        private final long expiresAt;
+
+        private Token(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
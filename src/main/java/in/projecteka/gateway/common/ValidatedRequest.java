@@ -10,6 +10,10 @@ import java.util.UUID;
 @Getter
 public class ValidatedRequest {
     private final UUID requesterRequestId;
-    private final Map<String, Object> deSerializedRequest;
+    private final RequestEnvelope envelope;
     private final String clientId;
+
+    public Map<String, Object> getDeSerializedRequest() {
+        return envelope.getDeSerializedRequest().orElseThrow();
+    }
 }
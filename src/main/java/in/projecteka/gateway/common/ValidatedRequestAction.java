@@ -1,5 +1,6 @@
 package in.projecteka.gateway.common;
 
+import in.projecteka.gateway.clients.ClientError;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -11,7 +12,20 @@ public interface ValidatedRequestAction {
                 .onErrorResume(throwable -> handleError(throwable, targetId, updatedRequest, sourceId));
     }
 
+    default Mono<Void> execute(String sourceId, String targetId, RequestEnvelope envelope, String routingKey) {
+        return routeRequest(sourceId, targetId, envelope, routingKey)
+                .onErrorResume(throwable -> envelope.getDeSerializedRequest()
+                        .map(request -> handleError(throwable, targetId, request, sourceId))
+                        .orElseGet(() -> Mono.error(throwable)));
+    }
+
     Mono<Void> routeRequest(String sourceId, String targetId, Map<String, Object> updatedRequest, String routingKey);
 
+    Mono<Void> routeRequest(String sourceId, String targetId, RequestEnvelope envelope, String routingKey);
+
     Mono<Void> handleError(Throwable throwable, String id, Map<String, Object> map, String sourceId);
+
+    default Mono<Void> spill(String sourceId, String targetId, Map<String, Object> updatedRequest, String routingKey) {
+        return Mono.error(ClientError.tooManyRequests());
+    }
 }
@@ -10,4 +10,17 @@ public class ValidatedResponse {
     String id;
     String callerRequestId;
     JsonNode deSerializedJsonNode;
+    RequestEnvelope envelope;
+
+    public ValidatedResponse(String id, String callerRequestId, JsonNode deSerializedJsonNode) {
+        this(id, callerRequestId, deSerializedJsonNode, null);
+    }
+
+    public ValidatedResponse(String id, String callerRequestId, RequestEnvelope envelope) {
+        this(id, callerRequestId, null, envelope);
+    }
+
+    public boolean isPassThrough() {
+        return envelope != null;
+    }
 }
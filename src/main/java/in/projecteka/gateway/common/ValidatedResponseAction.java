@@ -1,6 +1,7 @@
 package in.projecteka.gateway.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import in.projecteka.gateway.clients.ClientError;
 import reactor.core.publisher.Mono;
 
 public interface ValidatedResponseAction {
@@ -10,7 +11,20 @@ public interface ValidatedResponseAction {
                 .onErrorResume(throwable -> handleError(throwable, clientId, updatedRequest));
     }
 
+    default Mono<Void> execute(String clientId, RequestEnvelope envelope, String routingKey) {
+        return routeResponse(clientId, envelope, routingKey)
+                .onErrorResume(throwable -> envelope.getDeSerializedJsonNode()
+                        .map(jsonNode -> handleError(throwable, clientId, jsonNode))
+                        .orElseGet(() -> Mono.error(throwable)));
+    }
+
     Mono<Void> routeResponse(String id, JsonNode updatedRequest, String routingKey);
 
+    Mono<Void> routeResponse(String id, RequestEnvelope envelope, String routingKey);
+
     Mono<Void> handleError(Throwable throwable, String id, JsonNode jsonNode);
+
+    default Mono<Void> spill(String id, JsonNode updatedRequest, String routingKey) {
+        return Mono.error(ClientError.tooManyRequests());
+    }
 }
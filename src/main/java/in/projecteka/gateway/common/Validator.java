@@ -8,18 +8,18 @@ import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static in.projecteka.gateway.clients.ClientError.invalidRequest;
 import static in.projecteka.gateway.clients.ClientError.mappingNotFoundForId;
 import static in.projecteka.gateway.clients.ClientError.tooManyRequests;
 import static in.projecteka.gateway.common.Constants.REQUEST_ID;
-import static in.projecteka.gateway.common.Constants.TIMESTAMP;
 import static in.projecteka.gateway.common.Constants.X_HIP_ID;
 import static in.projecteka.gateway.common.Constants.X_HIU_ID;
 import static in.projecteka.gateway.common.Serializer.deserializeRequestAsJsonNode;
@@ -43,12 +43,13 @@ public class Validator {
     CMRegistry cmRegistry;
     CacheAdapter<String, String> requestIdMappings;
     RedundantRequestValidator redundantRequestValidator;
+    boolean passThrough;
 
-    private static Mono<ValidatedRequest> toRequest(HttpEntity<String> maybeRequest, String clientId) {
-        return Serializer.from(maybeRequest)
-                .filter(request -> hasText((String) request.get(REQUEST_ID)))
-                .flatMap(request -> from((String) request.get(REQUEST_ID))
-                        .map(requestUUID -> just(new ValidatedRequest(requestUUID, request, clientId))))
+    private Mono<ValidatedRequest> toRequest(RequestEnvelope envelope, String clientId) {
+        return Optional.ofNullable(envelope.getRequestId())
+                .filter(StringUtils::hasText)
+                .flatMap(requestId -> from(requestId)
+                        .map(requestUUID -> just(new ValidatedRequest(requestUUID, envelope, clientId))))
                 .orElseGet(() -> {
                     var errorMessage = format("Empty/Invalid %s found on the payload", REQUEST_ID);
                     logger.error(errorMessage);
@@ -66,20 +67,20 @@ public class Validator {
     }
 
     public Mono<ValidatedRequest> validateRequest(HttpEntity<String> maybeRequest, String routingKey) {
-        return Mono.just(maybeRequest)
+        var envelope = RequestEnvelope.from(maybeRequest);
+        return Mono.just(envelope)
                 .filterWhen(this::isValidRequest)
                 .switchIfEmpty(error(tooManyRequests()))
-                .flatMap(val -> validate(maybeRequest, routingKey, Validator::toRequest));
+                .flatMap(val -> validate(envelope.getHeaders(), routingKey, clientId -> toRequest(envelope, clientId))
+                        .onErrorResume(throwable -> redundantRequestValidator.release(envelope).then(error(throwable))));
     }
 
     public Mono<ValidatedResponse> validateResponse(HttpEntity<String> maybeResponse, String routingKey) {
-        return validate(maybeResponse, routingKey, this::toResponse);
+        return validate(maybeResponse.getHeaders(), routingKey, clientId -> toResponse(maybeResponse, clientId));
     }
 
-    private <T> Mono<T> validate(HttpEntity<String> maybeRequest,
-                                 String routingKey,
-                                 BiFunction<HttpEntity<String>, String, Mono<T>> to) {
-        String clientId = maybeRequest.getHeaders().getFirst(routingKey);
+    private <T> Mono<T> validate(HttpHeaders headers, String routingKey, Function<String, Mono<T>> to) {
+        String clientId = headers.getFirst(routingKey);
         if (!hasText(clientId)) {
             logger.error(HEADER_NOT_FOUND, routingKey);
             return error(mappingNotFoundForId(routingKey));
@@ -89,36 +90,51 @@ public class Validator {
                     logger.error(NO_MAPPING_FOUND_FOR_ROUTING_KEY, routingKey, clientId);
                     return error(mappingNotFoundForId(routingKey));
                 }))
-                .flatMap(id -> to.apply(maybeRequest, id));
+                .flatMap(to);
     }
 
     private Mono<ValidatedResponse> toResponse(HttpEntity<String> maybeResponse, String clientId) {
+        if (passThrough) {
+            var envelope = RequestEnvelope.fromResponse(maybeResponse);
+            return Mono.justOrEmpty(envelope.getRespRequestId())
+                    .filter(StringUtils::hasText)
+                    .switchIfEmpty(defer(Validator::respRequestIdNotFound))
+                    .flatMap(respRequestId -> toResponse(respRequestId, clientId,
+                            callerRequestId -> new ValidatedResponse(clientId, callerRequestId, envelope)));
+        }
         return deserializeRequestAsJsonNode(maybeResponse)
                 .filter(jsonNode -> !jsonNode.path("resp").path(REQUEST_ID).asText().isEmpty())
-                .switchIfEmpty(defer(() -> {
-                    logger.error(RESP_REQUEST_ID_IS_NULL_OR_EMPTY);
-                    return error(invalidRequest(RESP_REQUEST_ID_IS_NULL_OR_EMPTY));
-                }))
-                .flatMap(jsonNode -> {
-                    var respRequestId = jsonNode.path("resp").path(REQUEST_ID).asText();
-                    return requestIdMappings.get(respRequestId)
-                            .filter(StringUtils::hasText)
-                            .switchIfEmpty(error(invalidRequest("No mapping found for resp.requestId on cache")))
-                            .map(callerRequestId -> {
-                                logger.info("Received a response {} {} {}", keyValue("requestId", callerRequestId),
-                                        keyValue("gatewayId", respRequestId),
-                                        keyValue("targetId", clientId));
-                                return new ValidatedResponse(clientId, callerRequestId, jsonNode);
-                            });
+                .switchIfEmpty(defer(Validator::respRequestIdNotFound))
+                .flatMap(jsonNode -> toResponse(jsonNode.path("resp").path(REQUEST_ID).asText(), clientId,
+                        callerRequestId -> new ValidatedResponse(clientId, callerRequestId, jsonNode)));
+    }
+
+    private Mono<ValidatedResponse> toResponse(String respRequestId,
+                                               String clientId,
+                                               Function<String, ValidatedResponse> to) {
+        return requestIdMappings.get(respRequestId)
+                .filter(StringUtils::hasText)
+                .switchIfEmpty(error(invalidRequest("No mapping found for resp.requestId on cache")))
+                .map(callerRequestId -> {
+                    logger.info("Received a response {} {} {}", keyValue("requestId", callerRequestId),
+                            keyValue("gatewayId", respRequestId),
+                            keyValue("targetId", clientId));
+                    return to.apply(callerRequestId);
                 });
     }
 
-    private Mono<Boolean> isValidRequest(HttpEntity<String> maybeRequest) {
-        logger.debug("maybeRequest: " + maybeRequest.toString());
-        return getValue(maybeRequest, REQUEST_ID)
-                .zipWith(getValue(maybeRequest, TIMESTAMP))
-                .flatMap(requestTimeStamp ->
-                        redundantRequestValidator.validate(requestTimeStamp.getT1(), requestTimeStamp.getT2()));
+    private static <T> Mono<T> respRequestIdNotFound() {
+        logger.error(RESP_REQUEST_ID_IS_NULL_OR_EMPTY);
+        return error(invalidRequest(RESP_REQUEST_ID_IS_NULL_OR_EMPTY));
+    }
+
+    private Mono<Boolean> isValidRequest(RequestEnvelope envelope) {
+        if (!hasText(envelope.getRequestId()) || !hasText(envelope.getTimestamp())) {
+            var errorMessage = "Invalid request";
+            logger.error(errorMessage);
+            return error(invalidRequest(errorMessage));
+        }
+        return redundantRequestValidator.validate(envelope);
     }
 
     private static Mono<String> getRegistryMapping(BridgeRegistry bridgeRegistry,
@@ -139,16 +155,4 @@ public class Validator {
                 .switchIfEmpty(Mono.empty())
                 .flatMap(host -> Mono.just(clientId));
     }
-
-    private Mono<String> getValue(HttpEntity<String> maybeRequest, String key) {
-        return Serializer.from(maybeRequest)
-                .filter(request -> hasText((String) request.get(key)))
-                .flatMap(request -> of((String) request.get(key))
-                        .map(Mono::just))
-                .orElseGet(() -> {
-                    var errorMessage = "Invalid request";
-                    logger.error(errorMessage);
-                    return error(invalidRequest(errorMessage));
-                });
-    }
 }
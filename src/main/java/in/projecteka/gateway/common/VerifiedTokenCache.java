@@ -0,0 +1,84 @@
+package in.projecteka.gateway.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Remembers the caller of a bearer token that already passed signature and claims verification, keyed by the
+ * token's SHA-256 digest, until the token's own expiry.
+ */
+public class VerifiedTokenCache {
+    private final Cache<String, Verified> verified;
+    private final LongSupplier clock;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this(maximumSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(long maximumSize, LongSupplier clock) {
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String key, Verified value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt - clock.getAsLong()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Verified value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Verified value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Optional<Caller> get(String credentials) {
+        var entry = verified.getIfPresent(digest(credentials));
+        if (entry == null || entry.expiresAt <= clock.getAsLong()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.caller);
+    }
+
+    public void put(String credentials, Caller caller, Date expirationTime) {
+        if (expirationTime != null && expirationTime.getTime() > clock.getAsLong()) {
+            verified.put(digest(credentials), new Verified(caller, expirationTime.getTime()));
+        }
+    }
+
+    private static String digest(String credentials) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(credentials.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Verified {
+        private final Caller caller;
+        private final long expiresAt;
+
+        private Verified(Caller caller, long expiresAt) {
+            this.caller = caller;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
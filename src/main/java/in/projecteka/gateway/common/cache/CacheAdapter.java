@@ -7,5 +7,7 @@ public interface CacheAdapter<K, V> {
 
     Mono<Void> put(K key, V value);
 
+    Mono<Boolean> putIfAbsent(K key, V value);
+
     Mono<Void> invalidate(K key);
 }
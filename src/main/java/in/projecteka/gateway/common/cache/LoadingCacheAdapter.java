@@ -27,6 +27,16 @@ public class LoadingCacheAdapter<K, V> implements CacheAdapter<K, V> {
         return Mono.empty();
     }
 
+    @Override
+    public Mono<Boolean> putIfAbsent(K key, V value) {
+        var entries = loadingCache.asMap();
+        var existing = entries.putIfAbsent(key, value);
+        if (existing == null) {
+            return Mono.just(true);
+        }
+        return Mono.just(existing.equals("") && entries.replace(key, existing, value));
+    }
+
     @Override
     public Mono<Void> invalidate(K key) {
         loadingCache.invalidate(key);
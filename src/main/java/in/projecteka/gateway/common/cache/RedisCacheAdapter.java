@@ -1,11 +1,13 @@
 package in.projecteka.gateway.common.cache;
 
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import reactor.util.retry.Retry;
 
 import javax.annotation.PostConstruct;
@@ -47,13 +49,28 @@ public class RedisCacheAdapter implements CacheAdapter<String, String> {
         return retryable(redisCommands.get(key));
     }
 
+    /**
+     * The value along with its remaining time to live in milliseconds, as reported by PTTL.
+     */
+    Mono<Tuple2<String, Long>> getWithTimeToLive(String key) {
+        RedisReactiveCommands<String, String> redisCommands = statefulConnection.reactive();
+        return retryable(Mono.zip(redisCommands.get(key), redisCommands.pttl(key)));
+    }
+
+    /**
+     * A single SET with EX, so the key never exists without a TTL. Writes from concurrent requests share the one
+     * connection, which Lettuce pipelines; there is no separate batch API.
+     */
     @Override
     public Mono<Void> put(String key, String value) {
         RedisReactiveCommands<String, String> redisCommands = statefulConnection.reactive();
-        Mono<Void> putOperation = redisCommands.set(key, value)
-                .then(redisCommands.expire(key, expirationInMinutes * 60L))
-                .then();
-        return retryable(putOperation);
+        return retryable(redisCommands.set(key, value, expiry()).then());
+    }
+
+    @Override
+    public Mono<Boolean> putIfAbsent(String key, String value) {
+        RedisReactiveCommands<String, String> redisCommands = statefulConnection.reactive();
+        return retryable(redisCommands.set(key, value, expiry().nx()).hasElement());
     }
 
     @Override
@@ -62,6 +79,10 @@ public class RedisCacheAdapter implements CacheAdapter<String, String> {
         return retryable(redisCommands.expire(key, 0).then());
     }
 
+    private SetArgs expiry() {
+        return SetArgs.Builder.ex(expirationInMinutes * 60L);
+    }
+
     private <U> Mono<U> retryable(Mono<U> producer) {
         return defer(() -> producer)
                 .doOnError(error -> logger.error(error.getMessage(), error))
@@ -19,4 +19,7 @@ public class RedisOptions {
     private final String rootNamespace;
     private final boolean keepAliveEnabled;
     private final int retry;
+    private final boolean nearCacheEnabled;
+    private final long nearCacheMaximumSize;
+    private final int nearCacheExpiry;
 }
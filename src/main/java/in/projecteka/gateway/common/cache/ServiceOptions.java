@@ -14,4 +14,5 @@ public class ServiceOptions {
     public final String registryPath;
     public final int responseMaxRetryAttempts;
     public final int retryAttemptsDelay;
+    public final boolean passThrough;
 }
@@ -0,0 +1,30 @@
+package in.projecteka.gateway.common.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: while a load is in flight every caller for that key subscribes to
+ * the same {@link Mono}, so a cache miss costs one backend call however many requests are waiting on it. The
+ * entry is dropped once the load terminates, so errors are not remembered.
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> load(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> loader.get()
+                .doFinally(signal -> inFlight.remove(k))
+                .cache()));
+    }
+
+    public Mono<V> get(CacheAdapter<K, V> cache, K key, Supplier<Mono<V>> loader) {
+        return cache.get(key).switchIfEmpty(load(key, loader));
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,159 @@
+package in.projecteka.gateway.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+
+public class TieredCacheAdapter implements CacheAdapter<String, String> {
+    private static final Logger logger = LoggerFactory.getLogger(TieredCacheAdapter.class);
+    private static final String SEPARATOR = "|";
+    private static final long NO_EXPIRY = -1;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisCacheAdapter remoteCache;
+    private final RedisClient redisClient;
+    private final String channel;
+    private final Duration expiry;
+    private final Cache<String, NearEntry> localCache;
+    private StatefulRedisConnection<String, String> publishConnection;
+    private StatefulRedisPubSubConnection<String, String> subscribeConnection;
+    private Disposable invalidations;
+
+    public TieredCacheAdapter(RedisCacheAdapter remoteCache,
+                              RedisClient redisClient,
+                              String channel,
+                              long maximumSize,
+                              Duration expiry) {
+        this.remoteCache = remoteCache;
+        this.redisClient = redisClient;
+        this.channel = channel;
+        this.expiry = expiry;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, NearEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, NearEntry entry, long currentTime) {
+                        return entry.timeToLive.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, NearEntry entry, long currentTime, long currentDuration) {
+                        return entry.timeToLive.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, NearEntry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void postConstruct() {
+        remoteCache.postConstruct();
+        publishConnection = redisClient.connect();
+        subscribeConnection = redisClient.connectPubSub();
+        var pubSubCommands = subscribeConnection.reactive();
+        invalidations = pubSubCommands.observeChannels()
+                .filter(message -> channel.equals(message.getChannel()))
+                .subscribe(message -> onInvalidation(message.getMessage()));
+        pubSubCommands.subscribe(channel).block();
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        invalidations.dispose();
+        subscribeConnection.close();
+        publishConnection.close();
+        remoteCache.preDestroy();
+    }
+
+    @Override
+    public Mono<String> get(String key) {
+        var local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Mono.just(local.value);
+        }
+        return remoteCache.getWithTimeToLive(key)
+                .doOnNext(remote -> {
+                    var timeToLive = remote.getT2();
+                    if (timeToLive == NO_EXPIRY) {
+                        localCache.put(key, new NearEntry(remote.getT1(), expiry));
+                    } else if (timeToLive > 0) {
+                        var remaining = Duration.ofMillis(timeToLive);
+                        localCache.put(key, new NearEntry(remote.getT1(),
+                                remaining.compareTo(expiry) < 0 ? remaining : expiry));
+                    }
+                })
+                .map(Tuple2::getT1);
+    }
+
+    @Override
+    public Mono<Void> put(String key, String value) {
+        return remoteCache.put(key, value)
+                .then(publish(key))
+                .doOnSuccess(unused -> localCache.put(key, new NearEntry(value, expiry)));
+    }
+
+    @Override
+    public Mono<Boolean> putIfAbsent(String key, String value) {
+        return remoteCache.putIfAbsent(key, value)
+                .flatMap(stored -> stored
+                                   ? publish(key).thenReturn(true)
+                                   : Mono.just(false))
+                .doOnNext(stored -> {
+                    if (stored) {
+                        localCache.put(key, new NearEntry(value, expiry));
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return Mono.fromRunnable(() -> localCache.invalidate(key))
+                .then(remoteCache.invalidate(key))
+                .then(publish(key));
+    }
+
+    private Mono<Void> publish(String key) {
+        return Mono.defer(() -> publishConnection.reactive().publish(channel, nodeId + SEPARATOR + key))
+                .doOnError(error -> logger.error("Could not publish invalidation for {}", key, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void onInvalidation(String message) {
+        var separatorAt = message.indexOf(SEPARATOR);
+        if (separatorAt < 0 || message.substring(0, separatorAt).equals(nodeId)) {
+            return;
+        }
+        localCache.invalidate(message.substring(separatorAt + 1));
+    }
+
+    /**
+     * A local copy never outlives the remote key it was read from.
+     */
+    private static class NearEntry {
+        private final String value;
+        private final Duration timeToLive;
+
+        private NearEntry(String value, Duration timeToLive) {
+            this.value = value;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
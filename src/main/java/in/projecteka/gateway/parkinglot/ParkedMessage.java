@@ -0,0 +1,39 @@
+package in.projecteka.gateway.parkinglot;
+
+import com.rabbitmq.client.GetResponse;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+import static in.projecteka.gateway.common.Constants.X_ORIGIN_ID;
+
+@Value
+@Builder
+public class ParkedMessage {
+    long deliveryTag;
+    String routingKey;
+    String targetId;
+    String sourceId;
+    String contentType;
+    byte[] body;
+
+    static ParkedMessage from(GetResponse response, Map<String, RedriveRoute> routes) {
+        var routingKey = response.getEnvelope().getRoutingKey();
+        var headers = response.getProps().getHeaders();
+        var route = routes.get(routingKey);
+        return ParkedMessage.builder()
+                .deliveryTag(response.getEnvelope().getDeliveryTag())
+                .routingKey(routingKey)
+                .targetId(route == null ? "" : header(headers, route.getTargetHeader()))
+                .sourceId(header(headers, X_ORIGIN_ID))
+                .contentType(response.getProps().getContentType())
+                .body(response.getBody())
+                .build();
+    }
+
+    private static String header(Map<String, Object> headers, String name) {
+        var value = headers == null ? null : headers.get(name);
+        return value == null ? "" : value.toString();
+    }
+}
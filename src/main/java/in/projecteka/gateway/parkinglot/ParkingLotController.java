@@ -0,0 +1,35 @@
+package in.projecteka.gateway.parkinglot;
+
+import in.projecteka.gateway.parkinglot.model.ParkedMessageGroup;
+import in.projecteka.gateway.parkinglot.model.RedriveRequest;
+import in.projecteka.gateway.parkinglot.model.RedriveResult;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+
+import static in.projecteka.gateway.common.Constants.GW_PARKING_LOT_QUEUE;
+import static in.projecteka.gateway.common.Constants.INTERNAL_PARKING_LOT;
+import static in.projecteka.gateway.common.Constants.INTERNAL_PARKING_LOT_REDRIVE;
+
+@AllArgsConstructor
+@RestController
+public class ParkingLotController {
+    private final ParkingLotService parkingLotService;
+
+    @GetMapping(INTERNAL_PARKING_LOT)
+    public Mono<List<ParkedMessageGroup>> parkedMessages(@RequestParam(defaultValue = GW_PARKING_LOT_QUEUE) String source) {
+        return parkingLotService.groups(source);
+    }
+
+    @PostMapping(INTERNAL_PARKING_LOT_REDRIVE)
+    public Mono<RedriveResult> redrive(@Valid @RequestBody RedriveRequest redriveRequest) {
+        return parkingLotService.redrive(redriveRequest);
+    }
+}
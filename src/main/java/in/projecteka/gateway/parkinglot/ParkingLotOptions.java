@@ -0,0 +1,15 @@
+package in.projecteka.gateway.parkinglot;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.parking-lot")
+@Value
+@Builder
+@ConstructorBinding
+public class ParkingLotOptions {
+    public final int redrivePerSecond;
+    public final int scanLimit;
+}
@@ -0,0 +1,136 @@
+package in.projecteka.gateway.parkinglot;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import in.projecteka.gateway.common.QueuePayloadCodec;
+import in.projecteka.gateway.parkinglot.model.ParkedMessageGroup;
+import in.projecteka.gateway.parkinglot.model.RedriveRequest;
+import in.projecteka.gateway.parkinglot.model.RedriveResult;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static in.projecteka.gateway.clients.ClientError.invalidRequest;
+import static in.projecteka.gateway.common.Constants.CORRELATION_ID;
+import static in.projecteka.gateway.common.Constants.GW_DEAD_LETTER_QUEUE;
+import static in.projecteka.gateway.common.Constants.GW_PARKING_LOT_QUEUE;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Reads gw.parkinglot and gw.dlq with basic.get on a dedicated channel. Messages stay unacked while they are
+ * looked at; anything not redriven successfully goes back to its queue when the channel is closed.
+ */
+@AllArgsConstructor
+public class ParkingLotService {
+    private static final Logger logger = LoggerFactory.getLogger(ParkingLotService.class);
+    private static final Set<String> SOURCES = Set.of(GW_PARKING_LOT_QUEUE, GW_DEAD_LETTER_QUEUE);
+
+    private final ConnectionFactory connectionFactory;
+    private final Map<String, RedriveRoute> routes;
+    private final ParkingLotOptions options;
+    private final QueuePayloadCodec payloadCodec;
+
+    public Mono<List<ParkedMessageGroup>> groups(String source) {
+        if (!SOURCES.contains(source)) {
+            return Mono.error(invalidRequest(String.format("Unknown source %s", source)));
+        }
+        return withChannel(channel -> Mono.fromCallable(() -> fetch(channel, source))
+                .map(parked -> parked.stream()
+                        .collect(groupingBy(ParkedMessage::getRoutingKey,
+                                groupingBy(ParkedMessage::getTargetId, counting())))
+                        .entrySet().stream()
+                        .flatMap(byRoutingKey -> byRoutingKey.getValue().entrySet().stream()
+                                .map(byTarget -> ParkedMessageGroup.builder()
+                                        .routingKey(byRoutingKey.getKey())
+                                        .targetId(byTarget.getKey())
+                                        .count(byTarget.getValue())
+                                        .build()))
+                        .collect(toList())));
+    }
+
+    public Mono<RedriveResult> redrive(RedriveRequest request) {
+        var source = hasText(request.getSource()) ? request.getSource() : GW_PARKING_LOT_QUEUE;
+        if (!SOURCES.contains(source)) {
+            return Mono.error(invalidRequest(String.format("Unknown source %s", source)));
+        }
+        var route = routes.get(request.getRoutingKey());
+        if (route == null) {
+            return Mono.error(invalidRequest(String.format("Messages for %s can't be redriven",
+                    request.getRoutingKey())));
+        }
+        var limit = request.getLimit() > 0 ? request.getLimit() : options.getScanLimit();
+        var interval = Duration.ofMillis(1000L / Math.max(1, options.getRedrivePerSecond()));
+        return withChannel(channel -> Mono.fromCallable(() -> fetch(channel, source))
+                .flatMapMany(Flux::fromIterable)
+                .filter(parked -> parked.getRoutingKey().equals(request.getRoutingKey()))
+                .filter(parked -> !hasText(request.getTargetId()) || request.getTargetId().equals(parked.getTargetId()))
+                .take(limit)
+                .concatMap(parked -> Mono.delay(interval).then(redrive(channel, route, parked)))
+                .collectList()
+                .map(outcomes -> {
+                    var redriven = outcomes.stream().filter(Boolean::booleanValue).count();
+                    return RedriveResult.builder()
+                            .redriven(redriven)
+                            .failed(outcomes.size() - redriven)
+                            .build();
+                }));
+    }
+
+    private Mono<Boolean> redrive(Channel channel, RedriveRoute route, ParkedMessage parked) {
+        return Mono.defer(() -> {
+                    var message = payloadCodec.decode(parked.getContentType(), parked.getBody());
+                    return route.getRedrive().apply(parked, message)
+                            .subscriberContext(ctx -> ctx.put(CORRELATION_ID, message.getCorrelationId()));
+                })
+                .then(Mono.fromCallable(() -> {
+                    channel.basicAck(parked.getDeliveryTag(), false);
+                    return true;
+                }))
+                .onErrorResume(throwable -> {
+                    logger.error("Failed to redrive message for {} from the parking lot", parked.getTargetId(), throwable);
+                    return Mono.just(false);
+                });
+    }
+
+    private List<ParkedMessage> fetch(Channel channel, String source) throws IOException {
+        var parked = new ArrayList<ParkedMessage>();
+        while (parked.size() < options.getScanLimit()) {
+            var response = channel.basicGet(source, false);
+            if (response == null) {
+                break;
+            }
+            parked.add(ParkedMessage.from(response, routes));
+        }
+        return parked;
+    }
+
+    private <T> Mono<T> withChannel(Function<Channel, Mono<T>> work) {
+        return Mono.using(() -> connectionFactory.newConnection("gateway-parking-lot"),
+                connection -> Mono.fromCallable(connection::createChannel).flatMap(work),
+                this::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            logger.error("Failed to close parking lot connection", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package in.projecteka.gateway.parkinglot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import in.projecteka.gateway.clients.ServiceClient;
+import in.projecteka.gateway.common.DefaultValidatedRequestAction;
+import in.projecteka.gateway.common.DefaultValidatedResponseAction;
+import in.projecteka.gateway.common.Serializer;
+import in.projecteka.gateway.common.TraceableMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+@AllArgsConstructor
+@Getter
+public class RedriveRoute {
+    private final String targetHeader;
+    private final BiFunction<ParkedMessage, TraceableMessage, Mono<Void>> redrive;
+
+    @SuppressWarnings("unchecked")
+    public static <T extends ServiceClient> RedriveRoute forRequests(String targetHeader,
+                                                                     DefaultValidatedRequestAction<T> action) {
+        return new RedriveRoute(targetHeader, (parked, message) -> action.routeRequest(parked.getSourceId(),
+                parked.getTargetId(),
+                (Map<String, Object>) Serializer.convert(message.getMessage(), Map.class),
+                targetHeader));
+    }
+
+    public static <T extends ServiceClient> RedriveRoute forResponses(String targetHeader,
+                                                                      DefaultValidatedResponseAction<T> action) {
+        return new RedriveRoute(targetHeader, (parked, message) -> action.routeResponse(parked.getTargetId(),
+                Serializer.convert(message.getMessage(), JsonNode.class),
+                targetHeader));
+    }
+}
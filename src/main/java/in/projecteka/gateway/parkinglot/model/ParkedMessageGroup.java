@@ -0,0 +1,12 @@
+package in.projecteka.gateway.parkinglot.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ParkedMessageGroup {
+    String routingKey;
+    String targetId;
+    long count;
+}
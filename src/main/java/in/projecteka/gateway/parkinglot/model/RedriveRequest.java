@@ -0,0 +1,18 @@
+package in.projecteka.gateway.parkinglot.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Builder;
+import lombok.Value;
+
+import javax.validation.constraints.NotBlank;
+
+@Value
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RedriveRequest {
+    String source;
+    @NotBlank(message = "routingKey is not specified")
+    String routingKey;
+    String targetId;
+    int limit;
+}
@@ -0,0 +1,11 @@
+package in.projecteka.gateway.parkinglot.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class RedriveResult {
+    long redriven;
+    long failed;
+}
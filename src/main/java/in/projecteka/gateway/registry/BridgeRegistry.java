@@ -2,6 +2,7 @@ package in.projecteka.gateway.registry;
 
 import in.projecteka.gateway.common.MappingRepository;
 import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.cache.SingleFlight;
 import lombok.AllArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.security.web.util.UrlUtils;
@@ -12,15 +13,39 @@ import static in.projecteka.gateway.common.Constants.BRIDGE_ID_PREFIX;
 
 @AllArgsConstructor
 public class BridgeRegistry {
+    private static final String UNKNOWN = "unknown";
     private final CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings;
+    private final CacheAdapter<Pair<String, ServiceType>, String> unknownBridges;
     private final MappingRepository mappingRepository;
+    private final RegistrySnapshotEngine registrySnapshot;
+    private final SingleFlight<Pair<String, ServiceType>, String> hostLoads = new SingleFlight<>();
+
+    public BridgeRegistry(CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings,
+                          CacheAdapter<Pair<String, ServiceType>, String> unknownBridges,
+                          MappingRepository mappingRepository) {
+        this(bridgeMappings, unknownBridges, mappingRepository, null);
+    }
 
     public Mono<String> getHostFor(String id, ServiceType serviceType) {
-        return bridgeMappings.get(Pair.of(id, serviceType))
-                .switchIfEmpty((id.startsWith(BRIDGE_ID_PREFIX)
-                        ? mappingRepository.bridgeHost(id.substring(BRIDGE_ID_PREFIX.length()))
-                        : mappingRepository.bridgeHost(Pair.of(id, serviceType)))
-                        .filter(url -> StringUtils.hasText(url) && UrlUtils.isAbsoluteUrl(url))
-                        .flatMap(url -> bridgeMappings.put(Pair.of(id, serviceType), url).thenReturn(url)));
+        if (registrySnapshot != null && registrySnapshot.isReady()) {
+            return id.startsWith(BRIDGE_ID_PREFIX)
+                   ? registrySnapshot.bridgeHost(id.substring(BRIDGE_ID_PREFIX.length()))
+                   : registrySnapshot.bridgeHost(Pair.of(id, serviceType));
+        }
+        var key = Pair.of(id, serviceType);
+        return bridgeMappings.get(key)
+                .switchIfEmpty(unknownBridges.get(key)
+                        .hasElement()
+                        .flatMap(unknown -> unknown ? Mono.empty() : hostLoads.load(key, () -> fetchHostFor(key))));
+    }
+
+    private Mono<String> fetchHostFor(Pair<String, ServiceType> key) {
+        var id = key.getFirst();
+        return (id.startsWith(BRIDGE_ID_PREFIX)
+                ? mappingRepository.bridgeHost(id.substring(BRIDGE_ID_PREFIX.length()))
+                : mappingRepository.bridgeHost(key))
+                .filter(url -> StringUtils.hasText(url) && UrlUtils.isAbsoluteUrl(url))
+                .flatMap(url -> bridgeMappings.put(key, url).thenReturn(url))
+                .switchIfEmpty(Mono.defer(() -> unknownBridges.put(key, UNKNOWN).then(Mono.<String>empty())));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package in.projecteka.gateway.registry;
 
 import in.projecteka.gateway.common.MappingRepository;
 import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.cache.SingleFlight;
 import lombok.AllArgsConstructor;
 import org.springframework.security.web.util.UrlUtils;
 import org.springframework.util.StringUtils;
@@ -9,13 +10,33 @@ import reactor.core.publisher.Mono;
 
 @AllArgsConstructor
 public class CMRegistry {
+    private static final String UNKNOWN = "unknown";
     private final CacheAdapter<String, String> consentManagerMappings;
+    private final CacheAdapter<String, String> unknownConsentManagers;
     private final MappingRepository mappingRepository;
+    private final RegistrySnapshotEngine registrySnapshot;
+    private final SingleFlight<String, String> hostLoads = new SingleFlight<>();
+
+    public CMRegistry(CacheAdapter<String, String> consentManagerMappings,
+                      CacheAdapter<String, String> unknownConsentManagers,
+                      MappingRepository mappingRepository) {
+        this(consentManagerMappings, unknownConsentManagers, mappingRepository, null);
+    }
 
     public Mono<String> getHostFor(String id) {
+        if (registrySnapshot != null && registrySnapshot.isReady()) {
+            return registrySnapshot.cmHost(id);
+        }
         return consentManagerMappings.get(id)
-                .switchIfEmpty(mappingRepository.cmHost(id)
-                        .filter(url -> StringUtils.hasText(url) && UrlUtils.isAbsoluteUrl(url))
-                        .flatMap(url -> consentManagerMappings.put(id, url).thenReturn(url)));
+                .switchIfEmpty(unknownConsentManagers.get(id)
+                        .hasElement()
+                        .flatMap(unknown -> unknown ? Mono.empty() : hostLoads.load(id, () -> fetchHostFor(id))));
+    }
+
+    private Mono<String> fetchHostFor(String id) {
+        return mappingRepository.cmHost(id)
+                .filter(url -> StringUtils.hasText(url) && UrlUtils.isAbsoluteUrl(url))
+                .flatMap(url -> consentManagerMappings.put(id, url).thenReturn(url))
+                .switchIfEmpty(Mono.defer(() -> unknownConsentManagers.put(id, UNKNOWN).then(Mono.<String>empty())));
     }
 }
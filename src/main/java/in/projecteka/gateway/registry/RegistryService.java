@@ -30,6 +30,7 @@ import static in.projecteka.gateway.clients.ClientError.invalidBridgeRegistryReq
 import static in.projecteka.gateway.clients.ClientError.invalidBridgeServiceRequest;
 import static in.projecteka.gateway.clients.ClientError.invalidCMEntry;
 import static in.projecteka.gateway.clients.ClientError.invalidCMRegistryRequest;
+import static in.projecteka.gateway.common.Constants.BRIDGE_ID_PREFIX;
 import static in.projecteka.gateway.registry.ServiceType.HEALTH_LOCKER;
 import static in.projecteka.gateway.registry.ServiceType.HIP;
 import static in.projecteka.gateway.registry.ServiceType.HIU;
@@ -41,6 +42,8 @@ public class RegistryService {
     private final RegistryRepository registryRepository;
     private final CacheAdapter<String, String> consentManagerMappings;
     private final CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings;
+    private final CacheAdapter<String, String> unknownConsentManagers;
+    private final CacheAdapter<Pair<String, ServiceType>, String> unknownBridges;
     private final AdminServiceClient adminServiceClient;
     private final FacilityRegistryClient facilityRegistryClient;
 
@@ -78,12 +81,14 @@ public class RegistryService {
     private Mono<ClientResponse> updateCMEntry(CMEntry cmEntry, CMServiceRequest request) {
         return registryRepository.updateCMEntry(request)
                 .then(consentManagerMappings.invalidate(request.getSuffix()))
+                .then(forgetUnknownConsentManager(request.getSuffix()))
                 .then(updateClients(cmEntry, request));
     }
 
     private Mono<ClientResponse> createCMEntry(CMServiceRequest request) {
         if (Boolean.TRUE.equals(request.getIsActive()))
             return registryRepository.createCMEntry(request)
+                    .then(forgetUnknownConsentManager(request.getSuffix()))
                     .then(createClientAndAddRole(request.getSuffix()));
         return Mono.error(invalidCMEntry());
     }
@@ -117,7 +122,9 @@ public class RegistryService {
                                 .then(registryRepository.fetchBridgeServicesIfPresent(req.getId()).collectList()
                                 .flatMap(services -> Flux.fromIterable(services)
                                         .flatMap(service -> bridgeMappings.invalidate(Pair.of(service.getId(),
-                                                service.getType()))).then()))
+                                                service.getType()))
+                                                .then(forgetUnknownBridge(service.getId()))).then()))
+                                .then(forgetUnknownBridge(BRIDGE_ID_PREFIX + req.getId()))
                                 .then(req.getActive()
                                         ? createClient(bridgeRegistryRequest.getId())
                                         : adminServiceClient.deleteClientIfExists(bridgeRegistryRequest.getId())
@@ -127,6 +134,7 @@ public class RegistryService {
                         ? Mono.error(invalidBridgeRegistryRequest("Invalid request"))
                         : bridgeRegistryRequest.getActive()
                         ? registryRepository.insertBridgeEntry(bridgeRegistryRequest)
+                        .then(forgetUnknownBridge(BRIDGE_ID_PREFIX + bridgeRegistryRequest.getId()))
                         .then(createClient(bridgeRegistryRequest.getId()))
                         : Mono.error(invalidBridgeRegistryRequest("can't register an inactive bridge")));
     }
@@ -182,8 +190,20 @@ public class RegistryService {
     private Mono<Void> upsertServiceForBridge(String bridgeId, BridgeServiceRequest serviceDetails, Map<ServiceType, Boolean> serviceTypeActiveMap, Boolean result) {
         return Boolean.TRUE.equals(result) ?
                 registryRepository.updateBridgeServiceEntry(bridgeId, serviceDetails.getId(), serviceDetails.getName(), serviceTypeActiveMap)
-                        .then(invalidateBridgeMappings(serviceDetails.getId(), serviceTypeActiveMap)) :
-                registryRepository.insertBridgeServiceEntry(bridgeId, serviceDetails.getId(), serviceDetails.getName(), serviceTypeActiveMap);
+                        .then(invalidateBridgeMappings(serviceDetails.getId(), serviceTypeActiveMap))
+                        .then(forgetUnknownBridge(serviceDetails.getId())) :
+                registryRepository.insertBridgeServiceEntry(bridgeId, serviceDetails.getId(), serviceDetails.getName(), serviceTypeActiveMap)
+                        .then(forgetUnknownBridge(serviceDetails.getId()));
+    }
+
+    private Mono<Void> forgetUnknownConsentManager(String suffix) {
+        return Mono.defer(() -> unknownConsentManagers.invalidate(suffix));
+    }
+
+    private Mono<Void> forgetUnknownBridge(String id) {
+        return Flux.fromArray(ServiceType.values())
+                .flatMap(type -> unknownBridges.invalidate(Pair.of(id, type)))
+                .then();
     }
 
     private Mono<Void> invalidateBridgeMappings(String serviceId, Map<ServiceType, Boolean> typeActiveMap) {
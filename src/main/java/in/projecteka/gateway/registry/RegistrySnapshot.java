@@ -0,0 +1,86 @@
+package in.projecteka.gateway.registry;
+
+import in.projecteka.gateway.registry.model.BridgeServiceRoute;
+import org.springframework.data.util.Pair;
+import org.springframework.security.web.util.UrlUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Immutable routing table of the active consent managers, bridges and bridge services. Updates return a new
+ * snapshot so readers never see a partially applied change.
+ */
+public class RegistrySnapshot {
+    private final Map<String, String> consentManagers;
+    private final Map<String, String> bridges;
+    private final Map<Pair<String, ServiceType>, String> services;
+
+    private RegistrySnapshot(Map<String, String> consentManagers,
+                             Map<String, String> bridges,
+                             Map<Pair<String, ServiceType>, String> services) {
+        this.consentManagers = unmodifiableMap(consentManagers);
+        this.bridges = unmodifiableMap(bridges);
+        this.services = unmodifiableMap(services);
+    }
+
+    public static RegistrySnapshot of(Map<String, String> consentManagers,
+                                      Map<String, String> bridges,
+                                      Collection<BridgeServiceRoute> routes) {
+        var services = new HashMap<Pair<String, ServiceType>, String>();
+        routes.forEach(route -> services.put(Pair.of(route.getServiceId(), route.getType()), route.getBridgeId()));
+        return new RegistrySnapshot(withValidUrls(consentManagers), withValidUrls(bridges), services);
+    }
+
+    public Optional<String> cmHost(String suffix) {
+        return Optional.ofNullable(consentManagers.get(suffix));
+    }
+
+    public Optional<String> bridgeHost(String bridgeId) {
+        return Optional.ofNullable(bridges.get(bridgeId));
+    }
+
+    public Optional<String> bridgeHost(Pair<String, ServiceType> service) {
+        return Optional.ofNullable(services.get(service)).flatMap(this::bridgeHost);
+    }
+
+    public RegistrySnapshot withConsentManager(String suffix, Optional<String> url) {
+        var updated = new HashMap<>(consentManagers);
+        updated.remove(suffix);
+        url.filter(RegistrySnapshot::isValidUrl).ifPresent(value -> updated.put(suffix, value));
+        return new RegistrySnapshot(updated, bridges, services);
+    }
+
+    public RegistrySnapshot withBridge(String bridgeId, Optional<String> url) {
+        var updated = new HashMap<>(bridges);
+        updated.remove(bridgeId);
+        url.filter(RegistrySnapshot::isValidUrl).ifPresent(value -> updated.put(bridgeId, value));
+        return new RegistrySnapshot(consentManagers, updated, services);
+    }
+
+    public RegistrySnapshot withServiceRoutes(String serviceId, Collection<BridgeServiceRoute> routes) {
+        var updated = new HashMap<>(services);
+        updated.keySet().removeIf(key -> key.getFirst().equals(serviceId));
+        routes.forEach(route -> updated.put(Pair.of(route.getServiceId(), route.getType()), route.getBridgeId()));
+        return new RegistrySnapshot(consentManagers, bridges, updated);
+    }
+
+    private static Map<String, String> withValidUrls(Map<String, String> hosts) {
+        var valid = new HashMap<String, String>();
+        hosts.forEach((id, url) -> {
+            if (isValidUrl(url)) {
+                valid.put(id, url);
+            }
+        });
+        return valid;
+    }
+
+    private static boolean isValidUrl(String url) {
+        return StringUtils.hasText(url) && UrlUtils.isAbsoluteUrl(url);
+    }
+}
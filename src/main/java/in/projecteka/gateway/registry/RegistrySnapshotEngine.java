@@ -0,0 +1,133 @@
+package in.projecteka.gateway.registry;
+
+import io.vertx.pgclient.pubsub.PgSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.util.Pair;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.UnicastProcessor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keeps a {@link RegistrySnapshot} in memory. Row changes arrive as {@code <table>:<key>} payloads on a Postgres
+ * NOTIFY channel and only the affected rows are reloaded; a periodic full reload repairs anything missed while the
+ * listener was disconnected. All updates are applied one at a time so a slow full reload can not overwrite a newer
+ * incremental one.
+ */
+public class RegistrySnapshotEngine {
+    /**
+     * Hardcoded in registry-notify-triggers.sql as well; change both together.
+     */
+    public static final String REGISTRY_CHANGES_CHANNEL = "gateway_registry_changes";
+    private static final Logger logger = LoggerFactory.getLogger(RegistrySnapshotEngine.class);
+
+    private final RegistrySnapshotRepository repository;
+    private final PgSubscriber subscriber;
+    private final RegistrySnapshotOptions options;
+    private final UnicastProcessor<Function<RegistrySnapshot, Mono<RegistrySnapshot>>> updates =
+            UnicastProcessor.create();
+    private final FluxSink<Function<RegistrySnapshot, Mono<RegistrySnapshot>>> updateSink = updates.sink();
+    private volatile RegistrySnapshot snapshot;
+    private Disposable applier;
+    private Disposable reconciler;
+
+    public RegistrySnapshotEngine(RegistrySnapshotRepository repository,
+                                  PgSubscriber subscriber,
+                                  RegistrySnapshotOptions options) {
+        this.repository = repository;
+        this.subscriber = subscriber;
+        this.options = options;
+    }
+
+    @PostConstruct
+    public void start() {
+        applier = updates
+                .concatMap(update -> Mono.defer(() -> update.apply(snapshot))
+                        .doOnNext(updated -> snapshot = updated)
+                        .onErrorResume(throwable -> {
+                            logger.error("Failed to update the registry snapshot", throwable);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        subscriber.channel(REGISTRY_CHANGES_CHANNEL)
+                .subscribeHandler(subscribed -> reload())
+                .handler(this::onNotification);
+        subscriber.connect(connected -> {
+            if (connected.failed()) {
+                logger.error("Failed to listen for registry changes", connected.cause());
+            }
+        });
+        reconciler = Flux.interval(Duration.ZERO, Duration.ofSeconds(options.getReconcileInterval()))
+                .subscribe(tick -> reload());
+    }
+
+    @PreDestroy
+    public void stop() {
+        reconciler.dispose();
+        subscriber.close();
+        updateSink.complete();
+        applier.dispose();
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public Mono<String> cmHost(String suffix) {
+        return Mono.justOrEmpty(snapshot.cmHost(suffix));
+    }
+
+    public Mono<String> bridgeHost(String bridgeId) {
+        return Mono.justOrEmpty(snapshot.bridgeHost(bridgeId));
+    }
+
+    public Mono<String> bridgeHost(Pair<String, ServiceType> service) {
+        return Mono.justOrEmpty(snapshot.bridgeHost(service));
+    }
+
+    void reload() {
+        updateSink.next(current -> repository.snapshot());
+    }
+
+    void onNotification(String payload) {
+        var separator = payload.indexOf(':');
+        if (separator < 0) {
+            logger.warn("Ignoring registry change notification {}", payload);
+            return;
+        }
+        var table = payload.substring(0, separator);
+        var key = payload.substring(separator + 1);
+        switch (table) {
+            case "consent_manager":
+                update(current -> repository.cmHost(key)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .map(url -> current.withConsentManager(key, url)));
+                break;
+            case "bridge":
+                update(current -> repository.bridgeHost(key)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .map(url -> current.withBridge(key, url)));
+                break;
+            case "bridge_service":
+                update(current -> repository.serviceRoutes(key)
+                        .map(routes -> current.withServiceRoutes(key, routes)));
+                break;
+            default:
+                logger.warn("Ignoring registry change notification {}", payload);
+        }
+    }
+
+    private void update(Function<RegistrySnapshot, Mono<RegistrySnapshot>> incremental) {
+        updateSink.next(current -> current == null ? repository.snapshot() : incremental.apply(current));
+    }
+}
@@ -0,0 +1,15 @@
+package in.projecteka.gateway.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "gateway.registry-snapshot")
+@AllArgsConstructor
+@Getter
+@ConstructorBinding
+public class RegistrySnapshotOptions {
+    private final boolean enabled;
+    private final int reconcileInterval;
+}
@@ -0,0 +1,103 @@
+package in.projecteka.gateway.registry;
+
+import in.projecteka.gateway.common.DbOperationError;
+import in.projecteka.gateway.registry.model.BridgeServiceRoute;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static in.projecteka.gateway.registry.ServiceType.HEALTH_LOCKER;
+import static in.projecteka.gateway.registry.ServiceType.HIP;
+import static in.projecteka.gateway.registry.ServiceType.HIU;
+
+@AllArgsConstructor
+public class RegistrySnapshotRepository {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrySnapshotRepository.class);
+
+    private static final String SELECT_CONSENT_MANAGERS = "SELECT suffix, url FROM consent_manager " +
+            "WHERE active = true AND blocklisted = false";
+    private static final String SELECT_CONSENT_MANAGER = "SELECT suffix, url FROM consent_manager " +
+            "WHERE suffix = $1 AND active = true AND blocklisted = false";
+    private static final String SELECT_BRIDGES = "SELECT bridge_id, url FROM bridge " +
+            "WHERE active = true AND blocklisted = false";
+    private static final String SELECT_BRIDGE = "SELECT bridge_id, url FROM bridge " +
+            "WHERE bridge_id = $1 AND active = true AND blocklisted = false";
+    private static final String SELECT_BRIDGE_SERVICES = "SELECT service_id, bridge_id, is_hip, is_hiu, " +
+            "is_health_locker FROM bridge_service WHERE active = true";
+    private static final String SELECT_BRIDGE_SERVICE = "SELECT service_id, bridge_id, is_hip, is_hiu, " +
+            "is_health_locker FROM bridge_service WHERE service_id = $1 AND active = true";
+
+    private final PgPool dbClient;
+
+    public Mono<RegistrySnapshot> snapshot() {
+        return Mono.zip(hosts(SELECT_CONSENT_MANAGERS, Tuple.tuple()),
+                hosts(SELECT_BRIDGES, Tuple.tuple()),
+                routes(SELECT_BRIDGE_SERVICES, Tuple.tuple()))
+                .map(all -> RegistrySnapshot.of(all.getT1(), all.getT2(), all.getT3()));
+    }
+
+    public Mono<String> cmHost(String suffix) {
+        return hosts(SELECT_CONSENT_MANAGER, Tuple.of(suffix)).flatMap(hosts -> Mono.justOrEmpty(hosts.get(suffix)));
+    }
+
+    public Mono<String> bridgeHost(String bridgeId) {
+        return hosts(SELECT_BRIDGE, Tuple.of(bridgeId)).flatMap(hosts -> Mono.justOrEmpty(hosts.get(bridgeId)));
+    }
+
+    public Mono<List<BridgeServiceRoute>> serviceRoutes(String serviceId) {
+        return routes(SELECT_BRIDGE_SERVICE, Tuple.of(serviceId));
+    }
+
+    private Mono<Map<String, String>> hosts(String query, Tuple params) {
+        return select(query, params, row -> List.of(new SimpleImmutableEntry<>(row.getString(0), row.getString(1))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new);
+    }
+
+    private Mono<List<BridgeServiceRoute>> routes(String query, Tuple params) {
+        return select(query, params, this::toRoutes).collectList();
+    }
+
+    private List<BridgeServiceRoute> toRoutes(Row row) {
+        var routes = new ArrayList<BridgeServiceRoute>();
+        var serviceId = row.getString(0);
+        var bridgeId = row.getString(1);
+        if (Boolean.TRUE.equals(row.getBoolean(2))) {
+            routes.add(BridgeServiceRoute.builder().serviceId(serviceId).type(HIP).bridgeId(bridgeId).build());
+        }
+        if (Boolean.TRUE.equals(row.getBoolean(3))) {
+            routes.add(BridgeServiceRoute.builder().serviceId(serviceId).type(HIU).bridgeId(bridgeId).build());
+        }
+        if (Boolean.TRUE.equals(row.getBoolean(4))) {
+            routes.add(BridgeServiceRoute.builder().serviceId(serviceId).type(HEALTH_LOCKER).bridgeId(bridgeId).build());
+        }
+        return routes;
+    }
+
+    private <T> Flux<T> select(String query, Tuple params, Function<Row, List<T>> mapper) {
+        return Flux.create(fluxSink -> dbClient.preparedQuery(query)
+                .execute(params,
+                        handler -> {
+                            if (handler.failed()) {
+                                logger.error(handler.cause().getMessage(), handler.cause());
+                                fluxSink.error(new DbOperationError("Failed to load registry snapshot"));
+                                return;
+                            }
+                            for (Row row : handler.result()) {
+                                mapper.apply(row).forEach(fluxSink::next);
+                            }
+                            fluxSink.complete();
+                        }));
+    }
+}
@@ -0,0 +1,13 @@
+package in.projecteka.gateway.registry.model;
+
+import in.projecteka.gateway.registry.ServiceType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BridgeServiceRoute {
+    String serviceId;
+    ServiceType type;
+    String bridgeId;
+}
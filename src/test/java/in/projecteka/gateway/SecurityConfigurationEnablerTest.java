@@ -1,11 +1,11 @@
 package in.projecteka.gateway;
 
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.model.ClientResponse;
 import in.projecteka.gateway.common.AdminAuthenticator;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Caller;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.Role;
 import in.projecteka.gateway.registry.RegistryService;
 import org.junit.jupiter.api.Test;
@@ -32,8 +32,8 @@ import static reactor.core.publisher.Mono.just;
 @AutoConfigureWebTestClient
 class SecurityConfigurationEnablerTest {
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @MockBean
     Authenticator authenticator;
@@ -0,0 +1,49 @@
+package in.projecteka.gateway.clients;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.POST;
+
+class PerHostClientHttpConnectorTest {
+
+    @Test
+    void shouldUseHostConnectorForConfiguredHost() {
+        var defaultConnector = mock(ClientHttpConnector.class);
+        var cmConnector = mock(ClientHttpConnector.class);
+        var response = mock(ClientHttpResponse.class);
+        var uri = URI.create("https://CM.example.org/v0.5/care-contexts/on-discover");
+        when(cmConnector.connect(eq(POST), eq(uri), any())).thenReturn(Mono.just(response));
+        var connector = new PerHostClientHttpConnector(defaultConnector,
+                Map.of(PerHostClientHttpConnector.hostKey("cm.example.org", 443), cmConnector));
+
+        StepVerifier.create(connector.connect(POST, uri, request -> Mono.empty()))
+                .expectNext(response)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFallBackToDefaultConnectorForOtherHosts() {
+        var defaultConnector = mock(ClientHttpConnector.class);
+        var cmConnector = mock(ClientHttpConnector.class);
+        var response = mock(ClientHttpResponse.class);
+        var uri = URI.create("http://cm.example.org:8080/v0.5/care-contexts/on-discover");
+        when(defaultConnector.connect(eq(POST), eq(uri), any())).thenReturn(Mono.just(response));
+        var connector = new PerHostClientHttpConnector(defaultConnector,
+                Map.of(PerHostClientHttpConnector.hostKey("cm.example.org", 443), cmConnector));
+
+        StepVerifier.create(connector.connect(POST, uri, request -> Mono.empty()))
+                .expectNext(response)
+                .verifyComplete();
+    }
+}
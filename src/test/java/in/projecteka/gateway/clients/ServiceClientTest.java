@@ -2,6 +2,7 @@ package in.projecteka.gateway.clients;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import in.projecteka.gateway.common.IdentityService;
+import in.projecteka.gateway.common.RequestEnvelope;
 import in.projecteka.gateway.common.cache.ServiceOptions;
 import in.projecteka.gateway.registry.ServiceType;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.ClientRequest;
@@ -19,12 +21,14 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.HashMap;
+import java.util.UUID;
 
 import static in.projecteka.gateway.clients.ClientError.invalidRequest;
 import static in.projecteka.gateway.testcommon.TestBuilders.errorResult;
 import static in.projecteka.gateway.testcommon.TestBuilders.serviceOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
+import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -81,6 +85,34 @@ class ServiceClientTest {
         assertThat(captor.getValue().headers().get(HttpHeaders.AUTHORIZATION).get(0)).isEqualTo(token);
     }
 
+    @Test
+    void shouldRoutePassThroughRequestWithContentLength() {
+        var token = string();
+        var url = string();
+        var body = format("{\"requestId\":\"%s\",\"timestamp\":\"%s\"}", UUID.randomUUID(), string());
+        var envelope = RequestEnvelope.from(new HttpEntity<>(body)).withRequestIds(UUID.randomUUID().toString(), null);
+        when(identityService.authenticate()).thenReturn(just(token));
+        when(exchangeFunction.exchange(captor.capture()))
+                .thenReturn(just(ClientResponse.create(HttpStatus.OK)
+                        .header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .build()));
+        var serviceClient = new ServiceClient(SERVICE_OPTIONS, webClientBuilder, identityService) {
+            @Override
+            protected Mono<String> getResponseUrl(String clientId, ServiceType serviceType) {
+                return Mono.empty();
+            }
+
+            @Override
+            protected Mono<String> getRequestUrl(String clientId, ServiceType serviceType) {
+                return Mono.just(url);
+            }
+        };
+
+        StepVerifier.create(serviceClient.routeRequest(envelope, string(), string(), string())).verifyComplete();
+        assertThat(captor.getValue().url()).hasPath(url);
+        assertThat(captor.getValue().headers().getContentLength()).isEqualTo(envelope.getContentLength());
+    }
+
     @Test
     void shouldRouteGivenResponseToURL() {
         var token = string();
@@ -0,0 +1,130 @@
+package in.projecteka.gateway.clients;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static in.projecteka.gateway.clients.TargetBulkhead.TARGET_ID;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+class TargetBulkheadTest {
+
+    private static ClientRequest requestFor(String targetId) {
+        return ClientRequest.create(POST, URI.create("http://localhost/v0.5/care-contexts/discover"))
+                .attribute(TARGET_ID, targetId)
+                .build();
+    }
+
+    private static ClientResponse ok() {
+        return ClientResponse.create(OK).body(string()).build();
+    }
+
+    @Test
+    void shouldRejectCallsBeyondConcurrentAndPendingLimits() {
+        var targetBulkhead = new TargetBulkhead(1, 1);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        var targetId = string();
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never());
+        targetBulkhead.filter(requestFor(targetId), exchangeFunction).subscribe();
+        targetBulkhead.filter(requestFor(targetId), exchangeFunction).subscribe();
+
+        StepVerifier.create(targetBulkhead.filter(requestFor(targetId), exchangeFunction))
+                .expectErrorSatisfies(throwable -> assertThat(((ClientError) throwable).getHttpStatus())
+                        .isEqualTo(TOO_MANY_REQUESTS))
+                .verify();
+    }
+
+    @Test
+    void shouldRunPendingCallWhenInFlightResponseBodyIsConsumed() {
+        var targetBulkhead = new TargetBulkhead(1, 1);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        var targetId = string();
+        var inFlight = MonoProcessor.<ClientResponse>create();
+        when(exchangeFunction.exchange(any())).thenReturn(inFlight, Mono.just(ok()));
+        targetBulkhead.filter(requestFor(targetId), exchangeFunction)
+                .flatMap(ClientResponse::releaseBody)
+                .subscribe();
+
+        StepVerifier.create(targetBulkhead.filter(requestFor(targetId), exchangeFunction)
+                .flatMap(response -> response.releaseBody().thenReturn(response.statusCode())))
+                .then(() -> inFlight.onNext(ok()))
+                .expectNext(OK)
+                .verifyComplete();
+        assertThat(targetBulkhead.inFlight(targetId)).isZero();
+    }
+
+    @Test
+    void shouldHoldPermitUntilResponseBodyIsConsumed() {
+        var targetBulkhead = new TargetBulkhead(1, 0);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        var targetId = string();
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(ok()));
+        var response = targetBulkhead.filter(requestFor(targetId), exchangeFunction).block();
+
+        StepVerifier.create(targetBulkhead.filter(requestFor(targetId), exchangeFunction))
+                .expectErrorSatisfies(throwable -> assertThat(((ClientError) throwable).getHttpStatus())
+                        .isEqualTo(TOO_MANY_REQUESTS))
+                .verify();
+        assertThat(targetBulkhead.inFlight(targetId)).isOne();
+
+        StepVerifier.create(response.releaseBody()).verifyComplete();
+        assertThat(targetBulkhead.inFlight(targetId)).isZero();
+    }
+
+    @Test
+    void shouldReleasePermitWhenPendingCallIsCancelled() {
+        var targetBulkhead = new TargetBulkhead(1, 1);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        var targetId = string();
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never());
+        targetBulkhead.filter(requestFor(targetId), exchangeFunction).subscribe();
+
+        targetBulkhead.filter(requestFor(targetId), exchangeFunction).subscribe().dispose();
+
+        StepVerifier.create(targetBulkhead.filter(requestFor(targetId), exchangeFunction))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldNotLimitOtherTargets() {
+        var targetBulkhead = new TargetBulkhead(1, 0);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never(), Mono.just(ok()));
+        targetBulkhead.filter(requestFor(string()), exchangeFunction).subscribe();
+
+        StepVerifier.create(targetBulkhead.filter(requestFor(string()), exchangeFunction)
+                .map(ClientResponse::statusCode))
+                .expectNext(OK)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPassThroughRequestsWithoutTarget() {
+        var targetBulkhead = new TargetBulkhead(0, 0);
+        var exchangeFunction = mock(ExchangeFunction.class);
+        var response = mock(ClientResponse.class);
+        var request = ClientRequest.create(POST, URI.create("http://localhost/token")).build();
+        when(exchangeFunction.exchange(request)).thenReturn(Mono.just(response));
+
+        StepVerifier.create(targetBulkhead.filter(request, exchangeFunction))
+                .expectNext(response)
+                .verifyComplete();
+    }
+}
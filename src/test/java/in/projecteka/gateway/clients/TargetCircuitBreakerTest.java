@@ -0,0 +1,102 @@
+package in.projecteka.gateway.clients;
+
+import in.projecteka.gateway.CircuitBreakerOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static in.projecteka.gateway.clients.TargetBulkhead.TARGET_ID;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.OK;
+
+class TargetCircuitBreakerTest {
+    private static final Duration MAX_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong();
+    private ExchangeFunction exchangeFunction;
+    private ClientResponse response;
+    private TargetCircuitBreaker circuitBreaker;
+    private String targetId;
+
+    @BeforeEach
+    void init() {
+        exchangeFunction = mock(ExchangeFunction.class);
+        response = mock(ClientResponse.class);
+        when(response.statusCode()).thenReturn(OK);
+        circuitBreaker = new TargetCircuitBreaker(new CircuitBreakerOptions(10, 4, 50, 30, 1, 99, 100, 200),
+                MAX_TIMEOUT,
+                clock::get);
+        targetId = string();
+    }
+
+    private Mono<ClientResponse> call() {
+        var request = ClientRequest.create(POST, URI.create("http://localhost/v0.5/care-contexts/discover"))
+                .attribute(TARGET_ID, targetId)
+                .build();
+        return circuitBreaker.filter(request, exchangeFunction);
+    }
+
+    @Test
+    void shouldFailFastOnceFailureRateIsReached() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.error(new RuntimeException()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(call()).expectError(RuntimeException.class).verify();
+        }
+
+        StepVerifier.create(call()).expectError(ClientError.class).verify();
+
+        assertThat(circuitBreaker.state(targetId)).isEqualTo(TargetCircuitBreaker.State.OPEN);
+        verify(exchangeFunction, times(4)).exchange(any());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbe() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.error(new RuntimeException()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(call()).expectError(RuntimeException.class).verify();
+        }
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(response));
+
+        StepVerifier.create(call()).expectNext(response).verifyComplete();
+
+        assertThat(circuitBreaker.state(targetId)).isEqualTo(TargetCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldAdaptTimeoutToObservedLatency() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.fromCallable(() -> {
+            clock.addAndGet(300);
+            return response;
+        }));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(call()).expectNext(response).verifyComplete();
+        }
+
+        assertThat(circuitBreaker.timeout(targetId)).isEqualTo(Duration.ofMillis(400));
+    }
+
+    @Test
+    void shouldUseMaxTimeoutUntilEnoughCallsAreObserved() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(response));
+
+        StepVerifier.create(call()).expectNext(response).verifyComplete();
+
+        assertThat(circuitBreaker.timeout(targetId)).isEqualTo(MAX_TIMEOUT);
+    }
+}
@@ -7,6 +7,7 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import net.minidev.json.JSONArray;
@@ -55,7 +56,9 @@ class AdminAuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var adminTokenVerifier = new AdminAuthenticator(new JWKSet(rsaKey.toPublicJWK()), clientId);
+        var adminTokenVerifier = new AdminAuthenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                clientId,
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = adminTokenVerifier.verify(format("bearer %s", token));
 
@@ -90,7 +93,9 @@ class AdminAuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var adminTokenVerifier = new AdminAuthenticator(new JWKSet(rsaKey.toPublicJWK()), clientId);
+        var adminTokenVerifier = new AdminAuthenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                clientId,
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = adminTokenVerifier.verify(format("bearer %s", token));
 
@@ -115,7 +120,9 @@ class AdminAuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var adminTokenVerifier = new AdminAuthenticator(new JWKSet(rsaKey.toPublicJWK()), clientId);
+        var adminTokenVerifier = new AdminAuthenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                clientId,
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = adminTokenVerifier.verify(format("bearer %s", token));
 
@@ -142,7 +149,9 @@ class AdminAuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var adminTokenVerifier = new AdminAuthenticator(new JWKSet(rsaKey.toPublicJWK()), clientId);
+        var adminTokenVerifier = new AdminAuthenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                clientId,
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = adminTokenVerifier.verify(format("bearer %s", token));
 
@@ -7,6 +7,7 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import net.minidev.json.JSONArray;
@@ -56,7 +57,8 @@ class AuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var centralRegistryTokenVerifier = new Authenticator(new JWKSet(rsaKey.toPublicJWK()));
+        var centralRegistryTokenVerifier = new Authenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = centralRegistryTokenVerifier.verify(format("bearer %s", token));
 
@@ -89,7 +91,8 @@ class AuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var centralRegistryTokenVerifier = new Authenticator(new JWKSet(rsaKey.toPublicJWK()));
+        var centralRegistryTokenVerifier = new Authenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = centralRegistryTokenVerifier.verify(format("bearer %s", token));
 
@@ -114,7 +117,8 @@ class AuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var centralRegistryTokenVerifier = new Authenticator(new JWKSet(rsaKey.toPublicJWK()));
+        var centralRegistryTokenVerifier = new Authenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = centralRegistryTokenVerifier.verify(format("bearer %s", token));
 
@@ -141,7 +145,8 @@ class AuthenticatorTest {
                 claimsSet);
         signedJWT.sign(signer);
         String token = signedJWT.serialize();
-        var centralRegistryTokenVerifier = new Authenticator(new JWKSet(rsaKey.toPublicJWK()));
+        var centralRegistryTokenVerifier = new Authenticator(new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())),
+                new VerifiedTokenCache(100));
 
         Mono<Caller> verify = centralRegistryTokenVerifier.verify(format("bearer %s", token));
 
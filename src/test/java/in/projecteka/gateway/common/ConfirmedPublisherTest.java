@@ -0,0 +1,163 @@
+package in.projecteka.gateway.common;
+
+import in.projecteka.gateway.clients.ClientError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.Sender;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static in.projecteka.gateway.common.Constants.GW_EXCHANGE;
+import static in.projecteka.gateway.common.Constants.GW_LINK_QUEUE;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class ConfirmedPublisherTest {
+    @Mock
+    Sender sender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConfirmedPublisher publisher;
+
+    @BeforeEach
+    void init() {
+        initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void close() {
+        publisher.close();
+    }
+
+    private ConfirmedPublisher publisher(int batchSize, int batchWait, int maxAttempts) {
+        return publisher(batchSize, batchWait, maxAttempts, 5_000);
+    }
+
+    private ConfirmedPublisher publisher(int batchSize, int batchWait, int maxAttempts, int confirmTimeout) {
+        return new ConfirmedPublisher(sender,
+                PublisherOptions.builder()
+                        .batchSize(batchSize)
+                        .batchWait(batchWait)
+                        .maxAttempts(maxAttempts)
+                        .confirmTimeout(confirmTimeout)
+                        .build(),
+                meterRegistry);
+    }
+
+    private static OutboundMessage message() {
+        return new OutboundMessage(GW_EXCHANGE, GW_LINK_QUEUE, string().getBytes());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void confirmWhen(AtomicInteger sends, int confirmFromSend) {
+        when(sender.sendWithPublishConfirms(any())).thenAnswer(invocation -> {
+            var send = sends.incrementAndGet();
+            return Flux.from((Publisher<OutboundMessage>) invocation.getArgument(0))
+                    .map(message -> new OutboundMessageResult(message, send >= confirmFromSend));
+        });
+    }
+
+    @Test
+    void shouldSendMessagesInOneBatchAndCompleteOnConfirm() {
+        var sends = new AtomicInteger();
+        confirmWhen(sends, 1);
+        publisher = publisher(2, 60_000, 3);
+
+        StepVerifier.create(publisher.publish(message()).and(publisher.publish(message())))
+                .verifyComplete();
+
+        verify(sender, times(1)).sendWithPublishConfirms(any());
+        assertThat(meterRegistry.get("gateway.publish.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRepublishMessageTheBrokerDidNotConfirm() {
+        var sends = new AtomicInteger();
+        confirmWhen(sends, 2);
+        publisher = publisher(10, 1, 3);
+
+        StepVerifier.create(publisher.publish(message()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(sends.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("gateway.publish.unconfirmed").tag("outcome", "retried").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailPublishWhenNeverConfirmed() {
+        var sends = new AtomicInteger();
+        confirmWhen(sends, Integer.MAX_VALUE);
+        publisher = publisher(10, 1, 2);
+
+        StepVerifier.create(publisher.publish(message()))
+                .expectError(ClientError.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(sends.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("gateway.publish.unconfirmed").tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRepublishMessageWhoseConfirmTimedOut() {
+        var sends = new AtomicInteger();
+        when(sender.sendWithPublishConfirms(any())).thenAnswer(invocation -> {
+            if (sends.incrementAndGet() == 1) {
+                return Flux.<OutboundMessageResult>never();
+            }
+            return Flux.from((Publisher<OutboundMessage>) invocation.getArgument(0))
+                    .map(message -> new OutboundMessageResult(message, true));
+        });
+        publisher = publisher(10, 1, 3, 100);
+
+        StepVerifier.create(publisher.publish(message()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(sends.get()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepPublishingWhileTheBrokerIsSlowToConfirm() {
+        when(sender.sendWithPublishConfirms(any())).thenAnswer(invocation ->
+                Flux.from((Publisher<OutboundMessage>) invocation.getArgument(0))
+                        .map(message -> new OutboundMessageResult(message, true))
+                        .delaySubscription(Duration.ofMillis(50)));
+        publisher = publisher(10, 1, 3);
+
+        StepVerifier.create(Flux.range(0, 200).flatMap(index -> publisher.publish(message())))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(meterRegistry.get("gateway.publish.latency").timer().count()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldFailPublishAfterClose() {
+        publisher = publisher(10, 1, 3);
+        publisher.close();
+
+        StepVerifier.create(publisher.publish(message()))
+                .expectError(ClientError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+}
@@ -1,6 +1,7 @@
 package in.projecteka.gateway.common;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import in.projecteka.gateway.clients.ClientError;
 import in.projecteka.gateway.clients.ServiceClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
 import reactor.core.publisher.Mono;
 
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
@@ -36,4 +38,16 @@ class DefaultValidatedResponseActionTest {
 
         create(defaultValidatedResponseAction.routeResponse(cmId, mockRequest, routingKey)).verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void propagateRoutingErrorWhenEnvelopeCannotBeDeserialized() {
+        var cmId = string();
+        var routingKey = string();
+        var envelope = RequestEnvelope.fromResponse(new HttpEntity<>("{not json"));
+        when(serviceClient.routeResponse(envelope, cmId, routingKey)).thenReturn(Mono.error(ClientError.unableToConnect()));
+
+        create(defaultValidatedResponseAction.execute(cmId, envelope, routingKey))
+                .expectError(ClientError.class)
+                .verify();
+    }
+}
@@ -0,0 +1,90 @@
+package in.projecteka.gateway.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.ConsumeOptions;
+import reactor.rabbitmq.Receiver;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class DeliveryConsumerTest {
+    @Mock
+    Receiver receiver;
+
+    private String queue;
+
+    @BeforeEach
+    void init() {
+        initMocks(this);
+        queue = string();
+    }
+
+    @Test
+    void shouldAcknowledgeDeliveriesInTheOrderTheyWereReceived() {
+        var first = mock(AcknowledgableDelivery.class);
+        var second = mock(AcknowledgableDelivery.class);
+        var firstProcessed = MonoProcessor.<Void>create();
+        when(receiver.consumeManualAck(eq(queue), any(ConsumeOptions.class))).thenReturn(Flux.just(first, second));
+        var options = ConsumerOptions.builder().prefetch(10).concurrency(2).build();
+
+        DeliveryConsumer.consume(receiver, queue, options,
+                delivery -> delivery == first ? firstProcessed : Mono.empty());
+
+        verify(second, never()).ack();
+        firstProcessed.onComplete();
+        var acks = inOrder(first, second);
+        acks.verify(first).ack();
+        acks.verify(second).ack();
+    }
+
+    @Test
+    void shouldRejectDeliveryWhenProcessingFails() {
+        var delivery = mock(AcknowledgableDelivery.class);
+        when(receiver.consumeManualAck(eq(queue), any(ConsumeOptions.class))).thenReturn(Flux.just(delivery));
+        var options = ConsumerOptions.builder().prefetch(10).concurrency(2).build();
+
+        DeliveryConsumer.consume(receiver, queue, options,
+                unused -> Mono.error(new RetryLimitExceededException(string())));
+
+        verify(delivery).nack(false);
+        verify(delivery, never()).ack();
+    }
+
+    @Test
+    void shouldNotProcessMoreThanConfiguredConcurrencyAtOnce() {
+        var inFlight = new AtomicInteger();
+        var maximum = new AtomicInteger();
+        var pending = MonoProcessor.<Void>create();
+        var deliveries = Flux.range(0, 10).map(unused -> mock(AcknowledgableDelivery.class));
+        when(receiver.consumeManualAck(eq(queue), any(ConsumeOptions.class))).thenReturn(deliveries);
+        var options = ConsumerOptions.builder()
+                .prefetch(10)
+                .concurrency(8)
+                .queueConcurrency(Map.of(queue, 3))
+                .build();
+
+        DeliveryConsumer.consume(receiver, queue, options, unused -> {
+            maximum.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return pending.doFinally(signal -> inFlight.decrementAndGet());
+        });
+
+        assertThat(maximum.get()).isEqualTo(3);
+    }
+}
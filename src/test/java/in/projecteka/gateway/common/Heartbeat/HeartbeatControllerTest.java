@@ -2,6 +2,7 @@ package in.projecteka.gateway.common.Heartbeat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.nimbusds.jose.jwk.JWKSet;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.heartbeat.Heartbeat;
 import in.projecteka.gateway.common.heartbeat.model.HeartbeatResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,8 +34,8 @@ class HeartbeatControllerTest {
     private WebTestClient webTestClient;
 
     @SuppressWarnings("unused")
-    @MockBean(name = "centralRegistryJWKSet")
-    private JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    private RefreshingJWKSource centralRegistryJWKSource;
 
     @SuppressWarnings("unused")
     @MockBean(name = "identityServiceJWKSet")
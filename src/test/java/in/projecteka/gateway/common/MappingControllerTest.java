@@ -29,8 +29,8 @@ class MappingControllerTest {
     private WebTestClient webTestClient;
 
     @SuppressWarnings("unused")
-    @MockBean(name = "centralRegistryJWKSet")
-    private JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    private RefreshingJWKSource centralRegistryJWKSource;
 
     @SuppressWarnings("unused")
     @MockBean(name = "identityServiceJWKSet")
@@ -24,8 +24,8 @@ import static org.mockito.Mockito.when;
 @AutoConfigureWebTestClient(timeout = "6000")
 class MappingServiceTest {
     @SuppressWarnings("unused")
-    @MockBean(name = "centralRegistryJWKSet")
-    private JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    private RefreshingJWKSource centralRegistryJWKSource;
 
     @SuppressWarnings("unused")
     @MockBean(name = "identityServiceJWKSet")
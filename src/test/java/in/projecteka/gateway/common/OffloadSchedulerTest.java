@@ -0,0 +1,115 @@
+package in.projecteka.gateway.common;
+
+import in.projecteka.gateway.clients.ClientError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.offloadOptions;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+class OffloadSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OffloadScheduler offloadScheduler(SheddingPolicy sheddingPolicy) {
+        var offloadOptions = offloadOptions()
+                .maxConcurrencyPerTarget(1)
+                .queueCapacity(1)
+                .sheddingPolicy(sheddingPolicy)
+                .build();
+        return new OffloadScheduler(offloadOptions, Schedulers.immediate(), meterRegistry);
+    }
+
+    @Test
+    void shouldRunTaskWhenTargetHasCapacity() {
+        var offloadScheduler = offloadScheduler(SheddingPolicy.REJECT);
+        var executed = new AtomicInteger();
+
+        StepVerifier.create(offloadScheduler.submit(string(),
+                Mono.fromRunnable(executed::incrementAndGet),
+                Mono::empty))
+                .verifyComplete();
+
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(offloadScheduler.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldQueueTaskUntilInFlightTaskCompletes() {
+        var offloadScheduler = offloadScheduler(SheddingPolicy.REJECT);
+        var targetId = string();
+        var inFlight = MonoProcessor.<Void>create();
+        var executed = new AtomicInteger();
+
+        StepVerifier.create(offloadScheduler.submit(targetId, inFlight, Mono::empty)).verifyComplete();
+        StepVerifier.create(offloadScheduler.submit(targetId,
+                Mono.fromRunnable(executed::incrementAndGet),
+                Mono::empty))
+                .verifyComplete();
+
+        assertThat(executed.get()).isZero();
+        assertThat(offloadScheduler.getQueueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.offload.queue.depth").gauge().value()).isEqualTo(1);
+
+        inFlight.onComplete();
+
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(offloadScheduler.getQueueDepth()).isZero();
+        assertThat(offloadScheduler.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectWithTooManyRequestsWhenQueueIsFull() {
+        var offloadScheduler = offloadScheduler(SheddingPolicy.REJECT);
+        var targetId = string();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+
+        StepVerifier.create(offloadScheduler.submit(targetId, Mono.empty(), Mono::empty))
+                .expectErrorSatisfies(throwable -> assertThat(((ClientError) throwable).getHttpStatus())
+                        .isEqualTo(TOO_MANY_REQUESTS))
+                .verify();
+        assertThat(meterRegistry.get("gateway.offload.shed").tag("policy", "REJECT").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldSpillWhenQueueIsFull() {
+        var offloadScheduler = offloadScheduler(SheddingPolicy.SPILL);
+        var targetId = string();
+        var spilled = new AtomicInteger();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+
+        StepVerifier.create(offloadScheduler.submit(targetId,
+                Mono.empty(),
+                () -> Mono.fromRunnable(spilled::incrementAndGet)))
+                .verifyComplete();
+
+        assertThat(spilled.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotLimitOtherTargets() {
+        var offloadScheduler = offloadScheduler(SheddingPolicy.REJECT);
+        var targetId = string();
+        var executed = new AtomicInteger();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+        offloadScheduler.submit(targetId, Mono.never(), Mono::empty).block();
+
+        StepVerifier.create(offloadScheduler.submit(string(),
+                Mono.fromRunnable(executed::incrementAndGet),
+                Mono::empty))
+                .verifyComplete();
+
+        assertThat(executed.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,46 @@
+package in.projecteka.gateway.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueuePayloadCodecTest {
+    private static TraceableMessage traceableMessage() {
+        return TraceableMessage.builder()
+                .correlationId(string())
+                .message(Map.of("requestId", string(), "hiRequest", Map.of("consent", Map.of("id", string()))))
+                .build();
+    }
+
+    @Test
+    void shouldDecodeWhatItEncodesInSmile() {
+        var codec = new QueuePayloadCodec(PayloadFormat.SMILE);
+        var message = traceableMessage();
+
+        var encoded = codec.encode(message).orElseThrow();
+
+        assertThat(codec.contentType()).isEqualTo("application/x-jackson-smile");
+        assertThat(codec.decode(codec.contentType(), encoded)).isEqualTo(message);
+    }
+
+    @Test
+    void shouldDecodeMessagesWithoutContentTypeAsJson() {
+        var message = traceableMessage();
+        var legacy = Serializer.from(message).orElseThrow().getBytes();
+
+        assertThat(new QueuePayloadCodec(PayloadFormat.SMILE).decode(null, legacy)).isEqualTo(message);
+    }
+
+    @Test
+    void shouldEncodeSmallerInSmileThanJson() {
+        var message = traceableMessage();
+
+        var smile = new QueuePayloadCodec(PayloadFormat.SMILE).encode(message).orElseThrow();
+        var json = new QueuePayloadCodec(PayloadFormat.JSON).encode(message).orElseThrow();
+
+        assertThat(smile.length).isLessThan(json.length);
+    }
+}
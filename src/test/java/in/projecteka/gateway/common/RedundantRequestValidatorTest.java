@@ -69,8 +69,8 @@ class RedundantRequestValidatorTest {
     void returnErrorIfEntryExists() {
         var requestValidator = new RedundantRequestValidator(cacheForReplayAttack, "replay");
         var requestId = string();
-        var timestamp = string();
-        requestValidator.put(requestId, timestamp).subscribe().dispose();
+        var timestamp = LocalDateTime.now(ZoneOffset.UTC).toString();
+        cacheForReplayAttack.putIfAbsent("replay_" + requestId, timestamp).block();
 
         StepVerifier
                 .create(requestValidator.validate(requestId, timestamp))
@@ -89,4 +89,35 @@ class RedundantRequestValidatorTest {
                 .expectComplete()
                 .verify();
     }
+
+    @Test
+    void returnErrorIfSameRequestIdIsValidatedTwice() {
+        var requestValidator = new RedundantRequestValidator(cacheForReplayAttack, "replay");
+        var requestId = string();
+        var timestamp = LocalDateTime.now(ZoneOffset.UTC).toString();
+
+        StepVerifier.create(requestValidator.validate(requestId, timestamp))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(requestValidator.validate(requestId, timestamp))
+                .expectErrorMatches(throwable -> throwable instanceof ClientError &&
+                        ((ClientError) throwable).getHttpStatus().is4xxClientError())
+                .verify();
+    }
+
+    @Test
+    void shouldAllowRequestIdAgainAfterRelease() {
+        var requestValidator = new RedundantRequestValidator(cacheForReplayAttack, "replay");
+        var requestId = string();
+        var timestamp = LocalDateTime.now(ZoneOffset.UTC).toString();
+        StepVerifier.create(requestValidator.validate(requestId, timestamp))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(requestValidator.release(requestId))
+                .verifyComplete();
+        StepVerifier.create(requestValidator.validate(requestId, timestamp))
+                .expectNext(true)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,86 @@
+package in.projecteka.gateway.common;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import in.projecteka.gateway.clients.JwksProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshingJWKSourceTest {
+    @TempDir
+    Path directory;
+
+    private static RSAKey rsaKey() throws JOSEException {
+        return new RSAKeyGenerator(2048).keyID(string()).generate();
+    }
+
+    private static JWKSelector forKid(String kid) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    @Test
+    void shouldServeKeysFromSnapshotBeforeFirstFetch() throws Exception {
+        var key = rsaKey();
+        var snapshot = directory.resolve("jwks.json");
+        Files.write(snapshot, new JWKSet(key).toJSONObject(true).toJSONString().getBytes(UTF_8));
+        var source = new RefreshingJWKSource(() -> {
+            throw new IllegalStateException("identity provider is down");
+        }, new JwksProperties(300, 30, snapshot.toString()), Schedulers.immediate());
+
+        source.start();
+
+        assertThat(source.get(forKid(key.getKeyID()), null)).hasSize(1);
+        source.stop();
+    }
+
+    @Test
+    void shouldRefetchOnUnknownKidAtMostOncePerMinimumInterval() throws Exception {
+        var key = rsaKey();
+        var fetches = new AtomicInteger();
+        var clock = new AtomicLong(1_000_000);
+        var source = new RefreshingJWKSource(() -> {
+            fetches.incrementAndGet();
+            return new JWKSet(key);
+        }, new JwksProperties(300, 30, null), Schedulers.immediate(), clock::get);
+
+        assertThat(source.get(forKid(key.getKeyID()), null)).isEmpty();
+        assertThat(source.get(forKid(key.getKeyID()), null)).hasSize(1);
+        assertThat(source.get(forKid(string()), null)).isEmpty();
+        assertThat(fetches.get()).isEqualTo(1);
+
+        clock.addAndGet(30_000);
+        source.get(forKid(string()), null);
+
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteOnlyPublicKeysToSnapshotAfterFetch() throws Exception {
+        var key = rsaKey();
+        var snapshot = directory.resolve("keys").resolve("jwks.json");
+        var source = new RefreshingJWKSource(() -> new JWKSet(key),
+                new JwksProperties(300, 30, snapshot.toString()),
+                Schedulers.immediate());
+
+        source.refresh();
+
+        var saved = JWKSet.load(snapshot.toFile());
+        assertThat(saved.getKeyByKeyId(key.getKeyID())).isNotNull();
+        assertThat(saved.getKeyByKeyId(key.getKeyID()).isPrivate()).isFalse();
+        assertThat(source.current().getKeys()).hasSize(1);
+    }
+}
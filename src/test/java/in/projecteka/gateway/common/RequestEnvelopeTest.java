@@ -0,0 +1,99 @@
+package in.projecteka.gateway.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpEntity;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static in.projecteka.gateway.common.Constants.REQUEST_ID;
+import static in.projecteka.gateway.common.Constants.TIMESTAMP;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestEnvelopeTest {
+
+    @Test
+    void shouldExtractRequestIdAndTimestamp() throws JsonProcessingException {
+        var requestId = UUID.randomUUID().toString();
+        var timestamp = string();
+        var requestBody = Map.of(REQUEST_ID, requestId, TIMESTAMP, timestamp, "query", Map.of("id", string()));
+
+        var envelope = RequestEnvelope.from(new HttpEntity<>(OBJECT_MAPPER.writeValueAsString(requestBody)));
+
+        assertThat(envelope.getRequestId()).isEqualTo(requestId);
+        assertThat(envelope.getTimestamp()).isEqualTo(timestamp);
+        assertThat(envelope.getDeSerializedRequest()).contains(Map.copyOf(requestBody));
+    }
+
+    @Test
+    void shouldDeserializeRequestOnlyOnce() throws JsonProcessingException {
+        var requestBody = Map.of(REQUEST_ID, UUID.randomUUID().toString(), TIMESTAMP, string());
+        var envelope = RequestEnvelope.from(new HttpEntity<>(OBJECT_MAPPER.writeValueAsString(requestBody)));
+
+        var first = envelope.getDeSerializedRequest().orElseThrow();
+        envelope.getRequestId();
+        envelope.getTimestamp();
+
+        assertThat(envelope.getDeSerializedRequest().orElseThrow()).isSameAs(first);
+    }
+
+    @Test
+    void shouldReturnEmptyForInvalidBody() {
+        var envelope = RequestEnvelope.from(new HttpEntity<>(string()));
+
+        assertThat(envelope.getDeSerializedRequest()).isEmpty();
+        assertThat(envelope.getRequestId()).isNull();
+        assertThat(envelope.getTimestamp()).isNull();
+    }
+
+    @Test
+    void shouldReplaceRequestIdInPlace() {
+        var requestId = UUID.randomUUID().toString();
+        var gatewayRequestId = UUID.randomUUID().toString();
+        var timestamp = string();
+        var body = format("{\"requestId\": \"%s\", \"timestamp\":\"%s\",\"query\":{\"requestId\":\"%s\"}}",
+                requestId, timestamp, requestId);
+        var expected = format("{\"requestId\": \"%s\", \"timestamp\":\"%s\",\"query\":{\"requestId\":\"%s\"}}",
+                gatewayRequestId, timestamp, requestId);
+
+        var envelope = RequestEnvelope.from(new HttpEntity<>(body)).withRequestIds(gatewayRequestId, null);
+
+        StepVerifier.create(DataBufferUtils.join(envelope.toDataBuffers()).map(buffer -> buffer.toString(UTF_8)))
+                .expectNext(expected)
+                .verifyComplete();
+        assertThat(envelope.getContentLength()).isEqualTo(expected.getBytes(UTF_8).length);
+        assertThat(envelope.getDeSerializedRequest().orElseThrow()).containsEntry(REQUEST_ID, gatewayRequestId);
+    }
+
+    @Test
+    void shouldReplaceRespRequestIdAndInsertMissingRequestId() {
+        var gatewayRequestId = UUID.randomUUID().toString();
+        var callerRequestId = UUID.randomUUID().toString();
+        var body = format("{\"resp\":{\"requestId\":\"%s\"},\"error\":null}", UUID.randomUUID());
+        var expected = format("{\"requestId\":\"%s\",\"resp\":{\"requestId\":\"%s\"},\"error\":null}",
+                gatewayRequestId, callerRequestId);
+
+        var envelope = RequestEnvelope.fromResponse(new HttpEntity<>(body))
+                .withRequestIds(gatewayRequestId, callerRequestId);
+
+        StepVerifier.create(DataBufferUtils.join(envelope.toDataBuffers()).map(buffer -> buffer.toString(UTF_8)))
+                .expectNext(expected)
+                .verifyComplete();
+        assertThat(envelope.getContentLength()).isEqualTo(expected.getBytes(UTF_8).length);
+    }
+
+    @Test
+    void shouldReturnEmptyForMissingBody() {
+        var envelope = RequestEnvelope.from(new HttpEntity<>((String) null));
+
+        assertThat(envelope.getBody()).isEmpty();
+        assertThat(envelope.getRequestId()).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package in.projecteka.gateway.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestFieldExtractorTest {
+
+    @Test
+    void shouldExtractTopLevelRequestIdAndTimestamp() {
+        var requestId = UUID.randomUUID().toString();
+        var timestamp = string();
+        var body = format("{\"query\":{\"requestId\":\"%s\",\"list\":[1,{\"timestamp\":\"x\"}]}," +
+                "\"timestamp\":\"%s\",\"requestId\":\"%s\"}", string(), timestamp, requestId);
+
+        var fields = RequestFieldExtractor.extract(body.getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isEqualTo(requestId);
+        assertThat(fields.getTimestamp()).isEqualTo(timestamp);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"requestId\":\"%s\",\"timestamp\":\"%s\",\"payload\":{},\"requestId\":\"%s\"}",
+            "{\"requestId\":\"%s\",\"timestamp\":\"%s\",\"payload\":{},\"timestamp\":\"%s\"}"})
+    void shouldRejectDuplicateTopLevelFields(String template) {
+        var body = format(template, UUID.randomUUID(), string(), string());
+
+        var fields = RequestFieldExtractor.extract(body.getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isNull();
+        assertThat(fields.getTimestamp()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"requestId\":\"%s\",\"resp\":{\"requestId\":\"%s\",\"requestId\":\"%s\"}}",
+            "{\"requestId\":\"%s\",\"resp\":{\"requestId\":\"%s\"},\"resp\":{\"requestId\":\"%s\"}}"})
+    void shouldRejectDuplicateRespRequestId(String template) {
+        var body = format(template, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        var fields = RequestFieldExtractor.extractResponse(body.getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isNull();
+        assertThat(fields.getRespRequestId()).isNull();
+    }
+
+    @Test
+    void shouldRecordRequestIdValueSpan() {
+        var requestId = UUID.randomUUID().toString();
+        var body = format("{\"timestamp\":\"%s\", \"requestId\" : \"%s\",\"query\":{}}", string(), requestId);
+
+        var span = RequestFieldExtractor.extract(body.getBytes(UTF_8)).getRequestIdSpan();
+
+        assertThat(body.substring(span.getStart(), span.getEnd())).isEqualTo("\"" + requestId + "\"");
+    }
+
+    @Test
+    void shouldExtractRespRequestIdFromResponse() {
+        var requestId = UUID.randomUUID().toString();
+        var respRequestId = UUID.randomUUID().toString();
+        var body = format("{\"requestId\":\"%s\",\"error\":null,\"resp\":{\"status\":{\"requestId\":\"x\"}," +
+                "\"requestId\":\"%s\"}}", requestId, respRequestId);
+
+        var fields = RequestFieldExtractor.extractResponse(body.getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isEqualTo(requestId);
+        assertThat(fields.getRespRequestId()).isEqualTo(respRequestId);
+        var span = fields.getRespRequestIdSpan();
+        assertThat(body.substring(span.getStart(), span.getEnd())).isEqualTo("\"" + respRequestId + "\"");
+    }
+
+    @Test
+    void shouldIgnoreNonTextualValues() {
+        var body = "{\"requestId\":{\"id\":\"1\"},\"timestamp\":12345}";
+
+        var fields = RequestFieldExtractor.extract(body.getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isNull();
+        assertThat(fields.getTimestamp()).isNull();
+    }
+
+    @Test
+    void shouldReturnEmptyFieldsForInvalidPayload() {
+        var fields = RequestFieldExtractor.extract(string().getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isNull();
+        assertThat(fields.getTimestamp()).isNull();
+    }
+
+    @Test
+    void shouldReturnEmptyFieldsForNonObjectPayload() {
+        var fields = RequestFieldExtractor.extract("[{\"requestId\":\"1\"}]".getBytes(UTF_8));
+
+        assertThat(fields.getRequestId()).isNull();
+        assertThat(fields.getTimestamp()).isNull();
+    }
+}
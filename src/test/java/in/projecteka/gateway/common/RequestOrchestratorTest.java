@@ -1,12 +1,17 @@
 package in.projecteka.gateway.common;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
 import in.projecteka.gateway.clients.ClientError;
 import in.projecteka.gateway.clients.DiscoveryServiceClient;
 import in.projecteka.gateway.common.cache.CacheAdapter;
+import in.projecteka.gateway.common.cache.LoadingCacheAdapter;
 import in.projecteka.gateway.common.model.ErrorResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -15,12 +20,15 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpEntity;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static in.projecteka.gateway.clients.ClientError.mappingNotFoundForId;
@@ -31,6 +39,7 @@ import static in.projecteka.gateway.common.Constants.TIMESTAMP;
 import static in.projecteka.gateway.common.Constants.X_CM_ID;
 import static in.projecteka.gateway.common.Constants.X_HIP_ID;
 import static in.projecteka.gateway.common.Constants.X_HIU_ID;
+import static in.projecteka.gateway.testcommon.TestBuilders.offloadOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,7 +66,7 @@ class RequestOrchestratorTest {
     DiscoveryServiceClient discoveryServiceClient;
 
     @Captor
-    ArgumentCaptor<Map<String, Object>> captor;
+    ArgumentCaptor<RequestEnvelope> captor;
 
     @Captor
     ArgumentCaptor<String> requestIdCaptor;
@@ -74,7 +83,10 @@ class RequestOrchestratorTest {
                 new RedundantRequestValidator(requestIdTimestampMappings, null),
                 validator,
                 discoveryServiceClient,
-                validatedRequestAction));
+                validatedRequestAction,
+                new OffloadScheduler(offloadOptions().maxConcurrencyPerTarget(10).queueCapacity(10).build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry())));
     }
 
     @ParameterizedTest
@@ -106,15 +118,14 @@ class RequestOrchestratorTest {
 
         var apiCalled = string();
         when(validator.validateRequest(requestEntity, routingKey))
-                .thenReturn(just(new ValidatedRequest(requestId, requestBody, targetClientId)));
+                .thenReturn(just(new ValidatedRequest(requestId, RequestEnvelope.from(requestEntity), targetClientId)));
         when(requestIdMappings.put(requestIdCaptor.capture(), eq(requestId.toString()))).thenReturn(empty());
-        when(requestIdTimestampMappings.put(requestId.toString(), timestamp)).thenReturn(empty());
         when(validatedRequestAction.execute(eq(sourceId), eq(targetClientId), captor.capture(), eq(routingKey))).thenReturn(empty());
 
         StepVerifier.create(requestOrchestrator.handleThis(requestEntity, routingKey, routingKey, sourceId)
                 .subscriberContext(context -> context.put("apiCalled", apiCalled)))
                 .verifyComplete();
-        Assertions.assertEquals(requestIdCaptor.getValue(), captor.getValue().get(REQUEST_ID).toString());
+        Assertions.assertEquals(requestIdCaptor.getValue(), captor.getValue().getDeSerializedRequest().orElseThrow().get(REQUEST_ID).toString());
     }
 
     @ParameterizedTest
@@ -129,9 +140,8 @@ class RequestOrchestratorTest {
         var apiCalled = string();
         var sourceId = string();
         when(validator.validateRequest(requestEntity, routingKey))
-                .thenReturn(just(new ValidatedRequest(requestId, requestBody, targetClientId)));
+                .thenReturn(just(new ValidatedRequest(requestId, RequestEnvelope.from(requestEntity), targetClientId)));
         when(requestIdMappings.put(any(), eq(requestId.toString()))).thenReturn(empty());
-        when(requestIdTimestampMappings.put(requestId.toString(), timestamp)).thenReturn(empty());
         when(validatedRequestAction.execute(eq(sourceId) ,eq(targetClientId), captor.capture(), eq(routingKey)))
                 .thenReturn(error(new TimeoutException()));
         var errorResult = ArgumentCaptor.forClass(ErrorResult.class);
@@ -159,9 +169,8 @@ class RequestOrchestratorTest {
         var targetClientId = string();
         var sourceId = string();
         when(validator.validateRequest(requestEntity, routingKey))
-                .thenReturn(just(new ValidatedRequest(requestId, requestBody, targetClientId)));
+                .thenReturn(just(new ValidatedRequest(requestId, RequestEnvelope.from(requestEntity), targetClientId)));
         when(requestIdMappings.put(any(), eq(requestId.toString()))).thenReturn(empty());
-        when(requestIdTimestampMappings.put(requestId.toString(), timestamp)).thenReturn(empty());
         when(validatedRequestAction.execute(eq(sourceId), eq(targetClientId), captor.capture(), eq(routingKey)))
                 .thenReturn(error(new RuntimeException()));
         var errorResult = ArgumentCaptor.forClass(ErrorResult.class);
@@ -190,9 +199,8 @@ class RequestOrchestratorTest {
         var targetClientId = string();
         var sourceId = string();
         when(validator.validateRequest(requestEntity, routingKey))
-                .thenReturn(just(new ValidatedRequest(requestId, requestBody, targetClientId)));
+                .thenReturn(just(new ValidatedRequest(requestId, RequestEnvelope.from(requestEntity), targetClientId)));
         when(requestIdMappings.put(any(), eq(requestId.toString()))).thenReturn(empty());
-        when(requestIdTimestampMappings.put(requestId.toString(), timestamp)).thenReturn(empty());
         when(validatedRequestAction.execute(eq(sourceId), eq(targetClientId), captor.capture(), eq(routingKey)))
                 .thenReturn(error(ClientError.unableToConnect()));
         var errorResult = ArgumentCaptor.forClass(ErrorResult.class);
@@ -208,4 +216,61 @@ class RequestOrchestratorTest {
                 .isEqualTo("Cannot process the request at the moment, please try later.");
         assertThat(errorResult.getValue().getError().getCode()).isEqualTo(UNKNOWN_ERROR_OCCURRED);
     }
+
+    @Test
+    void acceptRetryWithSameRequestIdAfterRequestWasShed() throws JsonProcessingException {
+        var requestId = UUID.randomUUID();
+        var timestamp = LocalDateTime.now(ZoneOffset.UTC).toString();
+        var requestBody = new HashMap<String, Object>(Map.of(REQUEST_ID, requestId, TIMESTAMP, timestamp));
+        var requestEntity = new HttpEntity<>(OBJECT_MAPPER.writeValueAsString(requestBody));
+        var targetClientId = string();
+        var sourceId = string();
+        var redundantRequestValidator = new RedundantRequestValidator(new LoadingCacheAdapter<>(CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build(new CacheLoader<String, String>() {
+                    @SuppressWarnings("NullableProblems")
+                    public String load(String key) {
+                        return "";
+                    }
+                })), "replay");
+        var envelope = RequestEnvelope.from(requestEntity);
+        when(validator.validateRequest(requestEntity, X_HIP_ID))
+                .thenAnswer(invocation -> redundantRequestValidator.validate(envelope)
+                        .map(valid -> new ValidatedRequest(requestId, envelope, targetClientId)));
+        when(requestIdMappings.put(any(), eq(requestId.toString()))).thenReturn(empty());
+        when(validatedRequestAction.execute(eq(sourceId), eq(targetClientId), captor.capture(), eq(X_HIP_ID)))
+                .thenReturn(empty());
+        var sheddingOrchestrator = new RequestOrchestrator<>(requestIdMappings,
+                redundantRequestValidator,
+                validator,
+                discoveryServiceClient,
+                validatedRequestAction,
+                new OffloadScheduler(offloadOptions()
+                        .maxConcurrencyPerTarget(0)
+                        .queueCapacity(0)
+                        .sheddingPolicy(SheddingPolicy.REJECT)
+                        .build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry()));
+        var acceptingOrchestrator = new RequestOrchestrator<>(requestIdMappings,
+                redundantRequestValidator,
+                validator,
+                discoveryServiceClient,
+                validatedRequestAction,
+                new OffloadScheduler(offloadOptions().maxConcurrencyPerTarget(10).queueCapacity(10).build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry()));
+
+        StepVerifier.create(sheddingOrchestrator.handleThis(requestEntity, X_HIP_ID, X_CM_ID, sourceId)
+                .subscriberContext(context -> context.put("apiCalled", string())))
+                .expectErrorSatisfies(throwable ->
+                        assertThat(throwable).isEqualToComparingFieldByField(ClientError.tooManyRequests()))
+                .verify();
+        StepVerifier.create(acceptingOrchestrator.handleThis(requestEntity, X_HIP_ID, X_CM_ID, sourceId)
+                .subscriberContext(context -> context.put("apiCalled", string())))
+                .verifyComplete();
+
+        verify(validatedRequestAction).execute(eq(sourceId), eq(targetClientId), any(RequestEnvelope.class), eq(X_HIP_ID));
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import in.projecteka.gateway.clients.ClientError;
 import in.projecteka.gateway.common.cache.CacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,16 +14,20 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpEntity;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.UUID;
 
 import static in.projecteka.gateway.common.Constants.REQUEST_ID;
 import static in.projecteka.gateway.common.Constants.X_CM_ID;
+import static in.projecteka.gateway.testcommon.TestBuilders.offloadOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static reactor.core.publisher.Mono.empty;
@@ -47,7 +52,11 @@ class ResponseOrchestratorTest {
     @BeforeEach
     public void init() {
         MockitoAnnotations.initMocks(this);
-        responseOrchestrator = Mockito.spy(new ResponseOrchestrator(validator, validatedResponseAction));
+        responseOrchestrator = Mockito.spy(new ResponseOrchestrator(validator,
+                validatedResponseAction,
+                new OffloadScheduler(offloadOptions().maxConcurrencyPerTarget(10).queueCapacity(10).build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry())));
     }
 
     @Test
@@ -86,4 +95,28 @@ class ResponseOrchestratorTest {
         verify(validator).validateResponse(requestEntity, routingKey);
         Assertions.assertEquals(cmRequestId, jsonNodeArgumentCaptor.getValue().path("resp").path(REQUEST_ID).asText());
     }
+
+    @Test
+    public void shouldFailWithClientErrorWhenSpillingUndecodablePassThroughResponse() {
+        var requestEntity = new HttpEntity<>("{not json");
+        var testCmId = string();
+        var spillingOrchestrator = new ResponseOrchestrator(validator,
+                validatedResponseAction,
+                new OffloadScheduler(offloadOptions()
+                        .maxConcurrencyPerTarget(0)
+                        .queueCapacity(0)
+                        .sheddingPolicy(SheddingPolicy.SPILL)
+                        .build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry()));
+        when(validator.validateResponse(requestEntity, X_CM_ID)).thenReturn(just(new ValidatedResponse(testCmId,
+                UUID.randomUUID().toString(),
+                RequestEnvelope.fromResponse(requestEntity))));
+
+        StepVerifier.create(spillingOrchestrator.processResponse(requestEntity, X_CM_ID)
+                .subscriberContext(context -> context.put("apiCalled", string())))
+                .expectError(ClientError.class)
+                .verify();
+        verify(validatedResponseAction, never()).spill(any(), any(), any());
+    }
 }
@@ -0,0 +1,141 @@
+package in.projecteka.gateway.common;
+
+import com.rabbitmq.client.AMQP;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.QueueSpecification;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+import static in.projecteka.gateway.common.Constants.GW_EXCHANGE;
+import static in.projecteka.gateway.common.Constants.GW_LINK_QUEUE;
+import static in.projecteka.gateway.common.Constants.GW_PARKING_EXCHANGE;
+import static in.projecteka.gateway.common.Constants.X_CM_ID;
+import static in.projecteka.gateway.common.Constants.X_RETRY_ATTEMPT;
+import static in.projecteka.gateway.testcommon.TestBuilders.serviceOptions;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class RetryLadderTest {
+    @Mock
+    ConfirmedPublisher publisher;
+
+    @Captor
+    ArgumentCaptor<OutboundMessage> outboundMessages;
+
+    @Captor
+    ArgumentCaptor<QueueSpecification> queueSpecifications;
+
+    private RetryLadder retryLadder;
+
+    @BeforeEach
+    void init() {
+        initMocks(this);
+        retryLadder = new RetryLadder(publisher,
+                serviceOptions().responseMaxRetryAttempts(3).retryAttemptsDelay(1000).build(),
+                RetryLadderOptions.builder().multiplier(2).maxDelay(3000).jitter(0.2).build(),
+                () -> 0.5);
+        when(publisher.publish(outboundMessages.capture())).thenReturn(Mono.empty());
+    }
+
+    private static AcknowledgableDelivery delivery(Integer attempt, byte[] body) {
+        var headers = new HashMap<String, Object>();
+        headers.put(X_CM_ID, string());
+        if (attempt != null) {
+            headers.put(X_RETRY_ATTEMPT, attempt);
+        }
+        var delivery = mock(AcknowledgableDelivery.class);
+        when(delivery.getProperties()).thenReturn(new AMQP.BasicProperties.Builder().headers(headers).build());
+        when(delivery.getBody()).thenReturn(body);
+        return delivery;
+    }
+
+    @Test
+    void shouldGrowDelayExponentiallyUpToMaximum() {
+        assertThat(retryLadder.delay(1)).isEqualTo(Duration.ofMillis(1000));
+        assertThat(retryLadder.delay(2)).isEqualTo(Duration.ofMillis(2000));
+        assertThat(retryLadder.delay(3)).isEqualTo(Duration.ofMillis(3000));
+    }
+
+    @Test
+    void shouldSpreadDelayWithinJitter() {
+        var low = new RetryLadder(publisher,
+                serviceOptions().responseMaxRetryAttempts(3).retryAttemptsDelay(1000).build(),
+                RetryLadderOptions.builder().multiplier(2).maxDelay(3000).jitter(0.2).build(),
+                () -> 0.0);
+
+        assertThat(low.delay(1)).isEqualTo(Duration.ofMillis(800));
+    }
+
+    @Test
+    void shouldPublishFirstFailureToFirstDelayQueue() {
+        var body = string().getBytes();
+        var delivery = delivery(null, body);
+
+        StepVerifier.create(retryLadder.retryOrPark(GW_LINK_QUEUE, delivery)).verifyComplete();
+
+        var message = outboundMessages.getValue();
+        assertThat(message.getExchange()).isEmpty();
+        assertThat(message.getRoutingKey()).isEqualTo("gw.link.retry.1");
+        assertThat(message.getProperties().getExpiration()).isEqualTo("1000");
+        assertThat(message.getProperties().getHeaders())
+                .containsEntry(X_RETRY_ATTEMPT, 1)
+                .containsKey(X_CM_ID);
+        assertThat(message.getBody()).isEqualTo(body);
+    }
+
+    @Test
+    void shouldMoveDeliveryToParkingLotAfterLastAttempt() {
+        var delivery = delivery(3, string().getBytes());
+
+        StepVerifier.create(retryLadder.retryOrPark(GW_LINK_QUEUE, delivery)).verifyComplete();
+
+        var message = outboundMessages.getValue();
+        assertThat(message.getExchange()).isEqualTo(GW_PARKING_EXCHANGE);
+        assertThat(message.getRoutingKey()).isEqualTo(GW_LINK_QUEUE);
+        assertThat(message.getProperties().getExpiration()).isNull();
+        assertThat(message.getProperties().getHeaders()).containsEntry(X_RETRY_ATTEMPT, 4);
+    }
+
+    @Test
+    void shouldDeclareDelayQueuesDeadLetteringBackToSourceQueue() {
+        when(publisher.declareQueue(queueSpecifications.capture())).thenReturn(Mono.empty());
+
+        StepVerifier.create(retryLadder.declare(GW_LINK_QUEUE)).verifyComplete();
+
+        verify(publisher, times(3)).declareQueue(any(QueueSpecification.class));
+        assertThat(queueSpecifications.getAllValues())
+                .extracting(QueueSpecification::getName)
+                .containsExactlyInAnyOrder("gw.link.retry.1", "gw.link.retry.2", "gw.link.retry.3");
+        assertThat(queueSpecifications.getValue().getArguments())
+                .containsEntry("x-dead-letter-exchange", GW_EXCHANGE)
+                .containsEntry("x-dead-letter-routing-key", GW_LINK_QUEUE);
+    }
+
+    @Test
+    void shouldKeepDeclaringDelayQueuesUntilTheBrokerAcceptsThem() {
+        when(publisher.declareQueue(any(QueueSpecification.class)))
+                .thenReturn(Mono.error(new RuntimeException()), Mono.empty());
+
+        StepVerifier.create(retryLadder.declare(GW_LINK_QUEUE))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(publisher, atLeast(4)).declareQueue(any(QueueSpecification.class));
+    }
+}
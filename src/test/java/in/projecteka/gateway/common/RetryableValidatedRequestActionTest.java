@@ -15,9 +15,9 @@ import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.ConsumeOptions;
 import reactor.rabbitmq.OutboundMessage;
 import reactor.rabbitmq.Receiver;
-import reactor.rabbitmq.Sender;
 import reactor.test.StepVerifier;
 
 import java.util.HashMap;
@@ -27,8 +27,9 @@ import java.util.UUID;
 import static in.projecteka.gateway.clients.ClientError.mappingNotFoundForId;
 import static in.projecteka.gateway.common.Constants.GW_DATAFLOW_QUEUE;
 import static in.projecteka.gateway.common.Constants.X_ORIGIN_ID;
-import static in.projecteka.gateway.testcommon.TestBuilders.serviceOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -43,7 +44,10 @@ class RetryableValidatedRequestActionTest {
     private Receiver receiver;
 
     @Mock
-    private Sender sender;
+    private ConfirmedPublisher publisher;
+
+    @Mock
+    private RetryLadder retryLadder;
 
     @Mock
     private Map<String, Object> map;
@@ -56,18 +60,21 @@ class RetryableValidatedRequestActionTest {
     private AcknowledgableDelivery acknowledgableDelivery;
 
     @Captor
-    private ArgumentCaptor<Mono<OutboundMessage>> outboundMessageCaptor;
+    private ArgumentCaptor<OutboundMessage> outboundMessageCaptor;
 
     @BeforeEach
     public void init() {
         MockitoAnnotations.initMocks(this);
         map = new HashMap<>(); //Sample request body;
         acknowledgableDelivery = Mockito.mock(AcknowledgableDelivery.class, RETURNS_DEEP_STUBS);
-        when(receiver.consumeManualAck(GW_DATAFLOW_QUEUE)).thenReturn(Flux.just(acknowledgableDelivery));
+        when(receiver.consumeManualAck(eq(GW_DATAFLOW_QUEUE), any(ConsumeOptions.class))).thenReturn(Flux.just(acknowledgableDelivery));
+        when(retryLadder.declare(GW_DATAFLOW_QUEUE)).thenReturn(Mono.empty());
         retryableValidatedRequestAction = Mockito.spy(new RetryableValidatedRequestAction<>(receiver,
-                sender,
+                publisher,
                 defaultValidatedRequestAction,
-                serviceOptions().responseMaxRetryAttempts(5).retryAttemptsDelay(100).build(),
+                ConsumerOptions.builder().prefetch(10).concurrency(2).build(),
+                retryLadder,
+                new QueuePayloadCodec(PayloadFormat.JSON),
                 Constants.GW_DATAFLOW_QUEUE,
                 "X-HIP-ID"));
     }
@@ -95,7 +102,7 @@ class RetryableValidatedRequestActionTest {
 
 
     @Test
-    void shouldRetryIfFailsToRouteRequest() {
+    void shouldHandOverToRetryLadderIfFailsToRouteRequest() {
         String routingKey = "X-HIP-ID";
         LongString testHipId = LongStringHelper.asLongString("testHipId");
         LongString sourceId = LongStringHelper.asLongString("sourceId");
@@ -108,18 +115,20 @@ class RetryableValidatedRequestActionTest {
         when(acknowledgableDelivery.getProperties().getHeaders().get(X_ORIGIN_ID)).thenReturn(sourceId);
         when(acknowledgableDelivery.getBody()).thenReturn(Serializer.from(traceableMessage).get().getBytes());
 
-        doReturn(error(mappingNotFoundForId(testHipId.toString())), empty())
+        doReturn(error(mappingNotFoundForId(testHipId.toString())))
                 .when(retryableValidatedRequestAction)
                 .routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
+        when(retryLadder.retryOrPark(GW_DATAFLOW_QUEUE, acknowledgableDelivery)).thenReturn(empty());
 
         StepVerifier.create(retryableValidatedRequestAction.processDelivery(acknowledgableDelivery))
                 .verifyComplete();
 
-        verify(retryableValidatedRequestAction, times(2)).routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
+        verify(retryableValidatedRequestAction, times(1)).routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
+        verify(retryLadder).retryOrPark(GW_DATAFLOW_QUEUE, acknowledgableDelivery);
     }
 
     @Test
-    void shouldThrowExceptionWhenRetryLimitExceeds() {
+    void shouldFailDeliveryWhenRetryCannotBeScheduled() {
         String routingKey = "X-HIP-ID";
         LongString testHipId = LongStringHelper.asLongString("testHipId");
         LongString sourceId = LongStringHelper.asLongString("sourceId");
@@ -135,12 +144,14 @@ class RetryableValidatedRequestActionTest {
         doReturn(error(mappingNotFoundForId(testHipId.toString())))
                 .when(retryableValidatedRequestAction)
                 .routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
+        when(retryLadder.retryOrPark(GW_DATAFLOW_QUEUE, acknowledgableDelivery))
+                .thenReturn(error(new IllegalStateException("channel closed")));
 
         StepVerifier.create(retryableValidatedRequestAction.processDelivery(acknowledgableDelivery))
-                .expectError(RetryLimitExceededException.class)
+                .expectError(IllegalStateException.class)
                 .verify();
 
-        verify(retryableValidatedRequestAction, times(6)).routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
+        verify(retryableValidatedRequestAction, times(1)).routeRequest(sourceId.toString(), testHipId.toString(), map, routingKey);
     }
 
     @Test
@@ -163,14 +174,15 @@ class RetryableValidatedRequestActionTest {
         String testHipId = "testHipId";
         var sourceId = string();
 
-        when(sender.send(outboundMessageCaptor.capture())).thenReturn(Mono.empty());
+        when(publisher.publish(outboundMessageCaptor.capture())).thenReturn(Mono.empty());
 
         StepVerifier.create(retryableValidatedRequestAction.handleError(new RuntimeException(), testHipId, map, sourceId))
                 .verifyComplete();
 
-        var outboundMessage = outboundMessageCaptor.getValue().block();
+        var outboundMessage = outboundMessageCaptor.getValue();
         var headers = outboundMessage.getProperties().getHeaders();
         Assertions.assertEquals(testHipId, headers.get(routingKey));
         Assertions.assertEquals(sourceId, headers.get(X_ORIGIN_ID));
+        Assertions.assertEquals(PayloadFormat.JSON.contentType(), outboundMessage.getProperties().getContentType());
     }
 }
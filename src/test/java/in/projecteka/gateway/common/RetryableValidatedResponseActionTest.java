@@ -16,9 +16,9 @@ import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.rabbitmq.AcknowledgableDelivery;
+import reactor.rabbitmq.ConsumeOptions;
 import reactor.rabbitmq.OutboundMessage;
 import reactor.rabbitmq.Receiver;
-import reactor.rabbitmq.Sender;
 import reactor.test.StepVerifier;
 
 import java.util.UUID;
@@ -26,8 +26,9 @@ import java.util.UUID;
 import static in.projecteka.gateway.clients.ClientError.mappingNotFoundForId;
 import static in.projecteka.gateway.common.Constants.GW_LINK_QUEUE;
 import static in.projecteka.gateway.common.Constants.X_CM_ID;
-import static in.projecteka.gateway.testcommon.TestBuilders.serviceOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -41,7 +42,10 @@ class RetryableValidatedResponseActionTest {
     private Receiver receiver;
 
     @Mock
-    private Sender sender;
+    private ConfirmedPublisher publisher;
+
+    @Mock
+    private RetryLadder retryLadder;
 
     private JsonNode jsonNode;
 
@@ -53,7 +57,7 @@ class RetryableValidatedResponseActionTest {
     private AcknowledgableDelivery acknowledgableDelivery;
 
     @Captor
-    private ArgumentCaptor<Mono<OutboundMessage>> outboundMessageCaptor;
+    private ArgumentCaptor<OutboundMessage> outboundMessageCaptor;
 
 
     @BeforeEach
@@ -61,11 +65,14 @@ class RetryableValidatedResponseActionTest {
         MockitoAnnotations.initMocks(this);
         jsonNode = Serializer.objectMapper.readValue("{}", JsonNode.class);
         acknowledgableDelivery = Mockito.mock(AcknowledgableDelivery.class, RETURNS_DEEP_STUBS);
-        when(receiver.consumeManualAck(GW_LINK_QUEUE)).thenReturn(Flux.just(acknowledgableDelivery));
+        when(receiver.consumeManualAck(eq(GW_LINK_QUEUE), any(ConsumeOptions.class))).thenReturn(Flux.just(acknowledgableDelivery));
+        when(retryLadder.declare(GW_LINK_QUEUE)).thenReturn(Mono.empty());
         retryableValidatedResponseAction = Mockito.spy(new RetryableValidatedResponseAction<>(receiver,
-                sender,
+                publisher,
                 defaultValidatedResponseAction,
-                serviceOptions().responseMaxRetryAttempts(5).retryAttemptsDelay(100).build(),
+                ConsumerOptions.builder().prefetch(10).concurrency(2).build(),
+                retryLadder,
+                new QueuePayloadCodec(PayloadFormat.JSON),
                 GW_LINK_QUEUE,
                 X_CM_ID));
     }
@@ -92,7 +99,7 @@ class RetryableValidatedResponseActionTest {
     }
 
     @Test
-    void shouldRetryIfFailsToRouteResponse() {
+    void shouldHandOverToRetryLadderIfFailsToRouteResponse() {
         String routingKey = X_CM_ID;
         LongString testCmId = LongStringHelper.asLongString("testCmId");
 
@@ -103,18 +110,20 @@ class RetryableValidatedResponseActionTest {
         when(acknowledgableDelivery.getProperties().getHeaders().get(routingKey)).thenReturn(testCmId);
         when(acknowledgableDelivery.getBody()).thenReturn(Serializer.from(traceableMessage).get().getBytes());
 
-        doReturn(error(mappingNotFoundForId(testCmId.toString())), empty())
+        doReturn(error(mappingNotFoundForId(testCmId.toString())))
                 .when(retryableValidatedResponseAction)
                 .routeResponse(testCmId.toString(), jsonNode, routingKey);
+        when(retryLadder.retryOrPark(GW_LINK_QUEUE, acknowledgableDelivery)).thenReturn(empty());
 
         StepVerifier.create(retryableValidatedResponseAction.processDelivery(acknowledgableDelivery))
                 .verifyComplete();
 
-        verify(retryableValidatedResponseAction, times(2)).routeResponse(testCmId.toString(), jsonNode, routingKey);
+        verify(retryableValidatedResponseAction, times(1)).routeResponse(testCmId.toString(), jsonNode, routingKey);
+        verify(retryLadder).retryOrPark(GW_LINK_QUEUE, acknowledgableDelivery);
     }
 
     @Test
-    void shouldThrowExceptionWhenRetryLimitExceeds() {
+    void shouldFailDeliveryWhenRetryCannotBeScheduled() {
         String routingKey = X_CM_ID;
         LongString testCmId = LongStringHelper.asLongString("testCmId");
 
@@ -128,12 +137,14 @@ class RetryableValidatedResponseActionTest {
         doReturn(error(mappingNotFoundForId(testCmId.toString())))
                 .when(retryableValidatedResponseAction)
                 .routeResponse(testCmId.toString(), jsonNode, routingKey);
+        when(retryLadder.retryOrPark(GW_LINK_QUEUE, acknowledgableDelivery))
+                .thenReturn(error(new IllegalStateException("channel closed")));
 
         StepVerifier.create(retryableValidatedResponseAction.processDelivery(acknowledgableDelivery))
-                .expectError(RetryLimitExceededException.class)
+                .expectError(IllegalStateException.class)
                 .verify();
 
-        verify(retryableValidatedResponseAction, times(6)).routeResponse(testCmId.toString(), jsonNode, routingKey);
+        verify(retryableValidatedResponseAction, times(1)).routeResponse(testCmId.toString(), jsonNode, routingKey);
     }
 
     @Test
@@ -153,12 +164,12 @@ class RetryableValidatedResponseActionTest {
         String routingKey = X_CM_ID;
         String testCmId = "testCmId";
 
-        when(sender.send(outboundMessageCaptor.capture())).thenReturn(Mono.empty());
+        when(publisher.publish(outboundMessageCaptor.capture())).thenReturn(Mono.empty());
 
         StepVerifier.create(retryableValidatedResponseAction.handleError(new RuntimeException(), testCmId, jsonNode))
                 .verifyComplete();
 
-        var outboundMessage = outboundMessageCaptor.getValue().block();
+        var outboundMessage = outboundMessageCaptor.getValue();
         var headers = outboundMessage.getProperties().getHeaders();
         Assertions.assertEquals(testCmId, headers.get(routingKey));
     }
@@ -0,0 +1,118 @@
+package in.projecteka.gateway.common;
+
+import in.projecteka.gateway.clients.model.Session;
+import in.projecteka.gateway.common.cache.CacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class TokenRefresherTest {
+    private static final String KEY = "accessToken";
+
+    @Mock
+    CacheAdapter<String, String> tokenCache;
+
+    private VirtualTimeScheduler scheduler;
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRefresher tokenRefresher;
+
+    @BeforeEach
+    void init() {
+        initMocks(this);
+        when(tokenCache.get(KEY)).thenReturn(Mono.empty());
+        when(tokenCache.put(anyString(), anyString())).thenReturn(Mono.empty());
+        scheduler = VirtualTimeScheduler.create();
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRefresher = new TokenRefresher("gateway",
+                tokenCache,
+                TokenRefreshOptions.builder().refreshFraction(0.75).retryInterval(5).build(),
+                scheduler,
+                meterRegistry,
+                clock::get);
+    }
+
+    private static Session session(String accessToken, int expiresIn) {
+        return Session.builder().accessToken(accessToken).expiresIn(expiresIn).build();
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toMillis());
+        scheduler.advanceTimeBy(duration);
+    }
+
+    @Test
+    void shouldServeTokenFromMemoryUntilRefreshIsDue() {
+        var fetches = new AtomicInteger();
+        var token = string();
+
+        StepVerifier.create(tokenRefresher.token(KEY, () -> {
+            fetches.incrementAndGet();
+            return Mono.just(session(token, 100));
+        })).expectNext(token).verifyComplete();
+        advance(Duration.ofSeconds(70));
+
+        StepVerifier.create(tokenRefresher.token(KEY, Mono::empty)).expectNext(token).verifyComplete();
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void shouldRenewTokenInBackgroundAtConfiguredFractionOfLifetime() {
+        var first = string();
+        var second = string();
+        var fetches = new AtomicInteger();
+
+        StepVerifier.create(tokenRefresher.token(KEY,
+                () -> Mono.just(session(fetches.incrementAndGet() == 1 ? first : second, 100))))
+                .expectNext(first)
+                .verifyComplete();
+        advance(Duration.ofSeconds(75));
+
+        assertThat(fetches).hasValue(2);
+        StepVerifier.create(tokenRefresher.token(KEY, Mono::empty)).expectNext(second).verifyComplete();
+        assertThat(meterRegistry.counter("gateway.token.refresh", "token", "gateway", "outcome", "success").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepServingOldTokenAndRetryWhenRefreshFails() {
+        var token = string();
+        var renewed = string();
+        var fetches = new AtomicInteger();
+
+        StepVerifier.create(tokenRefresher.token(KEY, () -> {
+            switch (fetches.incrementAndGet()) {
+                case 1:
+                    return Mono.just(session(token, 100));
+                case 2:
+                    return Mono.error(new IllegalStateException());
+                default:
+                    return Mono.just(session(renewed, 100));
+            }
+        })).expectNext(token).verifyComplete();
+        advance(Duration.ofSeconds(75));
+
+        StepVerifier.create(tokenRefresher.token(KEY, Mono::empty)).expectNext(token).verifyComplete();
+        assertThat(meterRegistry.counter("gateway.token.refresh", "token", "gateway", "outcome", "failure").count())
+                .isEqualTo(1);
+
+        advance(Duration.ofSeconds(5));
+
+        StepVerifier.create(tokenRefresher.token(KEY, Mono::empty)).expectNext(renewed).verifyComplete();
+    }
+}
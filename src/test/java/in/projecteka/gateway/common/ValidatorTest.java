@@ -40,6 +40,7 @@ import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 class ValidatorTest {
@@ -71,10 +72,13 @@ class ValidatorTest {
     @BeforeEach
     void init() {
         MockitoAnnotations.initMocks(this);
+        when(requestIdTimestampMappings.putIfAbsent(anyString(), anyString())).thenReturn(Mono.just(true));
+        when(requestIdTimestampMappings.invalidate(anyString())).thenReturn(Mono.empty());
         validator = Mockito.spy(new Validator(bridgeRegistry,
                 cmRegistry,
                 requestIdMappings,
-                new RedundantRequestValidator(requestIdTimestampMappings, null)));
+                new RedundantRequestValidator(requestIdTimestampMappings, null),
+                false));
     }
 
     @ParameterizedTest
@@ -168,7 +172,7 @@ class ValidatorTest {
         when(requestEntity.getBody()).thenReturn(OBJECT_MAPPER.writeValueAsString(requestBody));
         when(httpHeaders.getFirst(routingKey)).thenReturn(bridgeId);
         when(bridgeRegistry.getHostFor(bridgeId, serviceType)).thenReturn(Mono.just(url));
-        when(requestIdTimestampMappings.get(requestId.toString())).thenReturn(Mono.empty());
+        when(requestIdTimestampMappings.putIfAbsent(requestId.toString(), timestamp)).thenReturn(Mono.just(true));
 
         StepVerifier.create(validator.validateRequest(requestEntity, routingKey))
                 .assertNext(validatedRequest -> {
@@ -0,0 +1,55 @@
+package in.projecteka.gateway.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private AtomicLong clock;
+    private VerifiedTokenCache verifiedTokens;
+
+    @BeforeEach
+    void init() {
+        clock = new AtomicLong(1_000_000);
+        verifiedTokens = new VerifiedTokenCache(100, clock::get);
+    }
+
+    @Test
+    void shouldReturnCallerOfVerifiedTokenUntilItExpires() {
+        var token = string();
+        var caller = new Caller(string(), true, List.of(Role.CM));
+        verifiedTokens.put(token, caller, new Date(clock.get() + 60_000));
+
+        assertThat(verifiedTokens.get(token)).contains(caller);
+
+        clock.addAndGet(60_000);
+
+        assertThat(verifiedTokens.get(token)).isEmpty();
+    }
+
+    @Test
+    void shouldNotRememberTokenWithoutFutureExpiry() {
+        var expired = string();
+        var withoutExpiry = string();
+        var caller = new Caller(string(), true, List.of());
+
+        verifiedTokens.put(expired, caller, new Date(clock.get()));
+        verifiedTokens.put(withoutExpiry, caller, null);
+
+        assertThat(verifiedTokens.get(expired)).isEmpty();
+        assertThat(verifiedTokens.get(withoutExpiry)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReturnCallerForDifferentToken() {
+        verifiedTokens.put(string(), new Caller(string(), true, List.of()), new Date(clock.get() + 60_000));
+
+        assertThat(verifiedTokens.get(string())).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package in.projecteka.gateway.common.cache;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    void shouldShareOneInFlightLoadAmongConcurrentCallers() {
+        var singleFlight = new SingleFlight<String, String>();
+        var key = string();
+        var value = string();
+        var loads = new AtomicInteger();
+        var backend = MonoProcessor.<String>create();
+
+        var first = singleFlight.load(key, () -> {
+            loads.incrementAndGet();
+            return backend;
+        }).toFuture();
+        var second = singleFlight.load(key, () -> {
+            loads.incrementAndGet();
+            return backend;
+        }).toFuture();
+        backend.onNext(value);
+
+        assertThat(first).isCompletedWithValue(value);
+        assertThat(second).isCompletedWithValue(value);
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldLoadAgainAfterFailure() {
+        var singleFlight = new SingleFlight<String, String>();
+        var key = string();
+        var value = string();
+
+        StepVerifier.create(singleFlight.load(key, () -> Mono.error(new IllegalStateException())))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(singleFlight.load(key, () -> Mono.just(value)))
+                .expectNext(value)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotLoadWhenCacheHoldsValue() {
+        var singleFlight = new SingleFlight<String, String>();
+        var cache = new LoadingCacheAdapter<String, String>(CacheBuilder.newBuilder()
+                .build(CacheLoader.from(key -> "")));
+        var key = string();
+        var value = string();
+        cache.put(key, value).block();
+
+        StepVerifier.create(singleFlight.get(cache, key, () -> Mono.error(new IllegalStateException())))
+                .expectNext(value)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,151 @@
+package in.projecteka.gateway.common.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.reactive.ChannelMessage;
+import io.lettuce.core.pubsub.api.reactive.RedisPubSubReactiveCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.DirectProcessor;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static reactor.core.publisher.Mono.empty;
+import static reactor.core.publisher.Mono.just;
+
+class TieredCacheAdapterTest {
+    private static final String CHANNEL = "gateway:invalidations:accessToken";
+
+    @Mock
+    RedisCacheAdapter remoteCache;
+
+    @Mock
+    RedisClient redisClient;
+
+    @Mock
+    StatefulRedisConnection<String, String> publishConnection;
+
+    @Mock
+    RedisReactiveCommands<String, String> publishCommands;
+
+    @Mock
+    StatefulRedisPubSubConnection<String, String> subscribeConnection;
+
+    @Mock
+    RedisPubSubReactiveCommands<String, String> subscribeCommands;
+
+    DirectProcessor<ChannelMessage<String, String>> messages;
+
+    TieredCacheAdapter tieredCacheAdapter;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.initMocks(this);
+        messages = DirectProcessor.create();
+        when(redisClient.connect()).thenReturn(publishConnection);
+        when(redisClient.connectPubSub()).thenReturn(subscribeConnection);
+        when(publishConnection.reactive()).thenReturn(publishCommands);
+        when(subscribeConnection.reactive()).thenReturn(subscribeCommands);
+        when(subscribeCommands.observeChannels()).thenReturn(messages);
+        when(subscribeCommands.subscribe(CHANNEL)).thenReturn(empty());
+        when(publishCommands.publish(eq(CHANNEL), anyString())).thenReturn(just(1L));
+        tieredCacheAdapter = new TieredCacheAdapter(remoteCache, redisClient, CHANNEL, 100, Duration.ofMinutes(1));
+        tieredCacheAdapter.postConstruct();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalCache() {
+        var key = string();
+        var value = string();
+        when(remoteCache.getWithTimeToLive(key)).thenReturn(just(Tuples.of(value, 60_000L)));
+
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+
+        verify(remoteCache, times(1)).getWithTimeToLive(key);
+    }
+
+    @Test
+    void shouldNotKeepLocalCopyLongerThanTheRemoteKeyLives() throws InterruptedException {
+        var key = string();
+        var value = string();
+        when(remoteCache.getWithTimeToLive(key)).thenReturn(just(Tuples.of(value, 50L)));
+
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+        Thread.sleep(100);
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+
+        verify(remoteCache, times(2)).getWithTimeToLive(key);
+    }
+
+    @Test
+    void shouldPublishInvalidationWhenReservingAKey() {
+        var key = string();
+        var value = string();
+        when(remoteCache.putIfAbsent(key, value)).thenReturn(just(true));
+
+        StepVerifier.create(tieredCacheAdapter.putIfAbsent(key, value)).expectNext(true).verifyComplete();
+
+        verify(publishCommands).publish(eq(CHANNEL), anyString());
+    }
+
+    @Test
+    void shouldWriteThroughAndPublishInvalidationOnPut() {
+        var key = string();
+        var value = string();
+        var published = ArgumentCaptor.forClass(String.class);
+        when(remoteCache.put(key, value)).thenReturn(empty());
+
+        StepVerifier.create(tieredCacheAdapter.put(key, value)).verifyComplete();
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+
+        verify(publishCommands).publish(eq(CHANNEL), published.capture());
+        assertThat(published.getValue()).endsWith("|" + key);
+        verify(remoteCache, never()).putIfAbsent(key, value);
+        verify(remoteCache, never()).getWithTimeToLive(key);
+    }
+
+    @Test
+    void shouldEvictLocalEntryOnInvalidationFromAnotherNode() {
+        var key = string();
+        var value = string();
+        var updatedValue = string();
+        when(remoteCache.getWithTimeToLive(key))
+                .thenReturn(just(Tuples.of(value, 60_000L)), just(Tuples.of(updatedValue, 60_000L)));
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(value).verifyComplete();
+
+        messages.onNext(new ChannelMessage<>(CHANNEL, string() + "|" + key));
+
+        StepVerifier.create(tieredCacheAdapter.get(key)).expectNext(updatedValue).verifyComplete();
+    }
+
+    @Test
+    void shouldInvalidateLocallyAndRemotely() {
+        var key = string();
+        var value = string();
+        when(remoteCache.put(key, value)).thenReturn(empty());
+        when(remoteCache.invalidate(key)).thenReturn(empty());
+        when(remoteCache.getWithTimeToLive(key)).thenReturn(empty());
+        tieredCacheAdapter.put(key, value).block();
+
+        StepVerifier.create(tieredCacheAdapter.invalidate(key)).verifyComplete();
+
+        StepVerifier.create(tieredCacheAdapter.get(key)).verifyComplete();
+        verify(remoteCache).invalidate(key);
+    }
+}
@@ -1,11 +1,11 @@
 package in.projecteka.gateway.consent;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.HipConsentNotifyServiceClient;
 import in.projecteka.gateway.clients.HiuConsentNotifyServiceClient;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
 import org.junit.jupiter.api.Test;
@@ -59,8 +59,8 @@ public class ConsentArtefactControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @MockBean
     Authenticator authenticator;
@@ -3,12 +3,12 @@ package in.projecteka.gateway.consent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.ConsentFetchServiceClient;
 import in.projecteka.gateway.clients.ConsentRequestServiceClient;
 import in.projecteka.gateway.clients.ConsentStatusServiceClient;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
 import in.projecteka.gateway.common.ValidatedResponse;
@@ -73,8 +73,8 @@ class ConsentControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @MockBean
     Validator consentRequestValidator;
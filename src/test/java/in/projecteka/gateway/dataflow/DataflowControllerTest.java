@@ -2,17 +2,19 @@ package in.projecteka.gateway.dataflow;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.DataFlowRequestServiceClient;
 import in.projecteka.gateway.clients.HealthInfoNotificationServiceClient;
 import in.projecteka.gateway.clients.HipDataFlowServiceClient;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.OffloadScheduler;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
 import in.projecteka.gateway.common.ValidatedResponse;
 import in.projecteka.gateway.common.ValidatedResponseAction;
 import in.projecteka.gateway.common.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +28,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.UUID;
@@ -40,6 +43,7 @@ import static in.projecteka.gateway.common.Role.CM;
 import static in.projecteka.gateway.common.Role.HIP;
 import static in.projecteka.gateway.common.Role.HIU;
 import static in.projecteka.gateway.testcommon.TestBuilders.caller;
+import static in.projecteka.gateway.testcommon.TestBuilders.offloadOptions;
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static in.projecteka.gateway.testcommon.TestEssentials.OBJECT_MAPPER;
 import static org.mockito.ArgumentMatchers.any;
@@ -67,8 +71,8 @@ class DataflowControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @MockBean
     Authenticator authenticator;
@@ -93,7 +97,10 @@ class DataflowControllerTest {
     @BeforeEach
     void init() {
         hipDataFlowRequestResponseOrchestrator = new ResponseOrchestrator(dataFlowResponseValidator,
-                validatedResponseAction);
+                validatedResponseAction,
+                new OffloadScheduler(offloadOptions().maxConcurrencyPerTarget(10).queueCapacity(10).build(),
+                        Schedulers.immediate(),
+                        new SimpleMeterRegistry()));
     }
 
     @Test
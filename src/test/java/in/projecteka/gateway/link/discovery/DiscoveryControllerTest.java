@@ -1,10 +1,10 @@
 package in.projecteka.gateway.link.discovery;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.DiscoveryServiceClient;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
 import org.junit.jupiter.api.Test;
@@ -50,8 +50,8 @@ class DiscoveryControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @Captor
     ArgumentCaptor<JsonNode> jsonNodeArgumentCaptor;
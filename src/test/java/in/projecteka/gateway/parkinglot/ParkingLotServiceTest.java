@@ -0,0 +1,134 @@
+package in.projecteka.gateway.parkinglot;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import in.projecteka.gateway.clients.ClientError;
+import in.projecteka.gateway.common.PayloadFormat;
+import in.projecteka.gateway.common.QueuePayloadCodec;
+import in.projecteka.gateway.common.Serializer;
+import in.projecteka.gateway.common.TraceableMessage;
+import in.projecteka.gateway.parkinglot.model.ParkedMessageGroup;
+import in.projecteka.gateway.parkinglot.model.RedriveRequest;
+import in.projecteka.gateway.parkinglot.model.RedriveResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static in.projecteka.gateway.clients.ClientError.unableToConnect;
+import static in.projecteka.gateway.common.Constants.GW_DATAFLOW_QUEUE;
+import static in.projecteka.gateway.common.Constants.GW_LINK_QUEUE;
+import static in.projecteka.gateway.common.Constants.GW_PARKING_LOT_QUEUE;
+import static in.projecteka.gateway.common.Constants.X_CM_ID;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+class ParkingLotServiceTest {
+    @Mock
+    ConnectionFactory connectionFactory;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    Channel channel;
+
+    private List<ParkedMessage> redriven;
+    private ParkingLotService parkingLotService;
+
+    @BeforeEach
+    void init() throws Exception {
+        initMocks(this);
+        redriven = new ArrayList<>();
+        when(connectionFactory.newConnection(anyString())).thenReturn(connection);
+        when(connection.createChannel()).thenReturn(channel);
+        var linkRoute = new RedriveRoute(X_CM_ID, (parked, message) -> {
+            redriven.add(parked);
+            return Mono.empty();
+        });
+        parkingLotService = new ParkingLotService(connectionFactory,
+                Map.of(GW_LINK_QUEUE, linkRoute),
+                ParkingLotOptions.builder().redrivePerSecond(1000).scanLimit(100).build(),
+                new QueuePayloadCodec(PayloadFormat.JSON));
+    }
+
+    private static GetResponse parked(long deliveryTag, String routingKey, String targetId) {
+        var properties = new AMQP.BasicProperties.Builder().headers(Map.of(X_CM_ID, targetId)).build();
+        var body = Serializer.from(TraceableMessage.builder().correlationId(string()).message(Map.of()).build())
+                .orElseThrow()
+                .getBytes();
+        return new GetResponse(new Envelope(deliveryTag, true, "", routingKey), properties, body, 0);
+    }
+
+    @Test
+    void shouldGroupParkedMessagesByRoutingKeyAndTarget() throws Exception {
+        var cmId = string();
+        when(channel.basicGet(GW_PARKING_LOT_QUEUE, false))
+                .thenReturn(parked(1, GW_LINK_QUEUE, cmId), parked(2, GW_LINK_QUEUE, cmId), null);
+
+        StepVerifier.create(parkingLotService.groups(GW_PARKING_LOT_QUEUE))
+                .assertNext(groups -> assertThat(groups).containsExactly(ParkedMessageGroup.builder()
+                        .routingKey(GW_LINK_QUEUE)
+                        .targetId(cmId)
+                        .count(2)
+                        .build()))
+                .verifyComplete();
+        verify(channel, never()).basicAck(1, false);
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldRedriveOnlySelectedTargetAndAcknowledgeRedrivenMessages() throws Exception {
+        var cmId = string();
+        when(channel.basicGet(GW_PARKING_LOT_QUEUE, false))
+                .thenReturn(parked(1, GW_LINK_QUEUE, cmId), parked(2, GW_LINK_QUEUE, string()), null);
+        var request = RedriveRequest.builder().routingKey(GW_LINK_QUEUE).targetId(cmId).build();
+
+        StepVerifier.create(parkingLotService.redrive(request))
+                .expectNext(RedriveResult.builder().redriven(1).failed(0).build())
+                .verifyComplete();
+
+        assertThat(redriven).extracting(ParkedMessage::getTargetId).containsExactly(cmId);
+        verify(channel).basicAck(1, false);
+        verify(channel, never()).basicAck(2, false);
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldLeaveMessageParkedWhenRedriveFails() throws Exception {
+        parkingLotService = new ParkingLotService(connectionFactory,
+                Map.of(GW_LINK_QUEUE, new RedriveRoute(X_CM_ID, (parked, message) -> Mono.error(unableToConnect()))),
+                ParkingLotOptions.builder().redrivePerSecond(1000).scanLimit(100).build(),
+                new QueuePayloadCodec(PayloadFormat.JSON));
+        when(channel.basicGet(GW_PARKING_LOT_QUEUE, false)).thenReturn(parked(1, GW_LINK_QUEUE, string()), (GetResponse) null);
+
+        StepVerifier.create(parkingLotService.redrive(RedriveRequest.builder().routingKey(GW_LINK_QUEUE).build()))
+                .expectNext(RedriveResult.builder().redriven(0).failed(1).build())
+                .verifyComplete();
+
+        verify(channel, never()).basicAck(1, false);
+    }
+
+    @Test
+    void shouldRejectRedriveForQueueWithoutRoute() {
+        var request = RedriveRequest.builder().routingKey(GW_DATAFLOW_QUEUE).build();
+
+        StepVerifier.create(parkingLotService.redrive(request))
+                .expectError(ClientError.class)
+                .verify();
+    }
+}
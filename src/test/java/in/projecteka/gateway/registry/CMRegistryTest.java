@@ -9,9 +9,14 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Qualifier;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CMRegistryTest {
@@ -20,6 +25,9 @@ class CMRegistryTest {
     @Qualifier("consentManagerMappings")
     CacheAdapter<String, String> consentManagerMappings;
 
+    @Mock
+    CacheAdapter<String, String> unknownConsentManagers;
+
     @Mock
     MappingRepository mappingRepository;
 
@@ -28,7 +36,9 @@ class CMRegistryTest {
     @BeforeEach
     void init() {
         MockitoAnnotations.initMocks(this);
-        cmRegistry = Mockito.spy(new CMRegistry(consentManagerMappings, mappingRepository));
+        when(unknownConsentManagers.get(anyString())).thenReturn(Mono.empty());
+        when(unknownConsentManagers.put(anyString(), anyString())).thenReturn(Mono.empty());
+        cmRegistry = Mockito.spy(new CMRegistry(consentManagerMappings, unknownConsentManagers, mappingRepository));
     }
 
     @Test
@@ -55,4 +65,44 @@ class CMRegistryTest {
 
         assertThat(mayBeHost).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void returnHostFromRegistrySnapshotWithoutHittingCacheOrDB() {
+        var registrySnapshot = Mockito.mock(RegistrySnapshotEngine.class);
+        var registry = new CMRegistry(consentManagerMappings,
+                unknownConsentManagers,
+                mappingRepository,
+                registrySnapshot);
+        var clientId = string();
+        var url = string();
+        when(registrySnapshot.isReady()).thenReturn(true);
+        when(registrySnapshot.cmHost(clientId)).thenReturn(Mono.just(url));
+
+        StepVerifier.create(registry.getHostFor(clientId))
+                .expectNext(url)
+                .verifyComplete();
+        verifyNoInteractions(consentManagerMappings, unknownConsentManagers, mappingRepository);
+    }
+
+    @Test
+    void shouldRememberUnknownIdAndNotHitDBAgain() {
+        var clientId = string();
+        when(consentManagerMappings.get(clientId)).thenReturn(Mono.empty());
+        when(mappingRepository.cmHost(clientId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cmRegistry.getHostFor(clientId)).verifyComplete();
+
+        verify(unknownConsentManagers).put(clientId, "unknown");
+    }
+
+    @Test
+    void shouldNotHitDBForIdKnownToBeUnknown() {
+        var clientId = string();
+        when(consentManagerMappings.get(clientId)).thenReturn(Mono.empty());
+        when(unknownConsentManagers.get(clientId)).thenReturn(Mono.just("unknown"));
+
+        StepVerifier.create(cmRegistry.getHostFor(clientId)).verifyComplete();
+
+        verify(mappingRepository, never()).cmHost(clientId);
+    }
+}
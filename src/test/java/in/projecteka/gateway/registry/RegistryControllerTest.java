@@ -1,10 +1,10 @@
 package in.projecteka.gateway.registry;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.model.ClientResponse;
 import in.projecteka.gateway.common.AdminAuthenticator;
 import in.projecteka.gateway.common.Authenticator;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.registry.model.BridgeServiceRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,8 +51,8 @@ class RegistryControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet jwkSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @MockBean
     AdminAuthenticator adminAuthenticator;
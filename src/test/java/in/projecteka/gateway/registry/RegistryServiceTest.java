@@ -62,6 +62,12 @@ class RegistryServiceTest {
     @Mock
     CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings;
 
+    @Mock
+    CacheAdapter<String, String> unknownConsentManagers;
+
+    @Mock
+    CacheAdapter<Pair<String, ServiceType>, String> unknownBridges;
+
     @Mock
     RegistryRepository registryRepository;
 
@@ -77,8 +83,16 @@ class RegistryServiceTest {
     @BeforeEach
     void init() {
         initMocks(this);
+        when(unknownConsentManagers.invalidate(any())).thenReturn(Mono.empty());
+        when(unknownBridges.invalidate(any())).thenReturn(Mono.empty());
         registryService = Mockito.spy(new RegistryService(
-                registryRepository, consentManagerMappings, bridgeMappings, adminServiceClient, facilityRegistryClient
+                registryRepository,
+                consentManagerMappings,
+                bridgeMappings,
+                unknownConsentManagers,
+                unknownBridges,
+                adminServiceClient,
+                facilityRegistryClient
         ));
     }
 
@@ -113,6 +127,7 @@ class RegistryServiceTest {
         verify(adminServiceClient).getAvailableRealmRoles(serviceAccount.getId());
         verify(adminServiceClient).assignRoleToClient(List.of(realmRoles.get(0)), serviceAccount.getId());
         verify(adminServiceClient).getClientSecret(request.getSuffix());
+        verify(unknownConsentManagers).invalidate(request.getSuffix());
     }
 
     @Test
@@ -0,0 +1,80 @@
+package in.projecteka.gateway.registry;
+
+import in.projecteka.gateway.registry.model.BridgeServiceRoute;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.util.Pair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static in.projecteka.gateway.registry.ServiceType.HIP;
+import static in.projecteka.gateway.registry.ServiceType.HIU;
+import static in.projecteka.gateway.testcommon.TestBuilders.string;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrySnapshotTest {
+
+    private static BridgeServiceRoute route(String serviceId, ServiceType type, String bridgeId) {
+        return BridgeServiceRoute.builder().serviceId(serviceId).type(type).bridgeId(bridgeId).build();
+    }
+
+    @Test
+    void shouldResolveServiceHostThroughItsBridge() {
+        var serviceId = string();
+        var bridgeId = string();
+        var snapshot = RegistrySnapshot.of(Map.of(),
+                Map.of(bridgeId, "http://bridge.example"),
+                List.of(route(serviceId, HIP, bridgeId)));
+
+        assertThat(snapshot.bridgeHost(Pair.of(serviceId, HIP))).contains("http://bridge.example");
+        assertThat(snapshot.bridgeHost(Pair.of(serviceId, HIU))).isEmpty();
+    }
+
+    @Test
+    void shouldSkipEntriesWithoutAbsoluteUrl() {
+        var suffix = string();
+        var snapshot = RegistrySnapshot.of(Map.of(suffix, "cm.example"), Map.of(), List.of());
+
+        assertThat(snapshot.cmHost(suffix)).isEmpty();
+    }
+
+    @Test
+    void shouldStopRoutingServicesOfRemovedBridge() {
+        var serviceId = string();
+        var bridgeId = string();
+        var snapshot = RegistrySnapshot.of(Map.of(),
+                Map.of(bridgeId, "http://bridge.example"),
+                List.of(route(serviceId, HIP, bridgeId)));
+
+        var updated = snapshot.withBridge(bridgeId, Optional.empty());
+
+        assertThat(updated.bridgeHost(Pair.of(serviceId, HIP))).isEmpty();
+        assertThat(snapshot.bridgeHost(Pair.of(serviceId, HIP))).contains("http://bridge.example");
+    }
+
+    @Test
+    void shouldReplaceAllRoutesOfUpdatedService() {
+        var serviceId = string();
+        var oldBridge = string();
+        var newBridge = string();
+        var snapshot = RegistrySnapshot.of(Map.of(),
+                Map.of(oldBridge, "http://old.example", newBridge, "http://new.example"),
+                List.of(route(serviceId, HIP, oldBridge), route(serviceId, HIU, oldBridge)));
+
+        var updated = snapshot.withServiceRoutes(serviceId, List.of(route(serviceId, HIU, newBridge)));
+
+        assertThat(updated.bridgeHost(Pair.of(serviceId, HIP))).isEmpty();
+        assertThat(updated.bridgeHost(Pair.of(serviceId, HIU))).contains("http://new.example");
+    }
+
+    @Test
+    void shouldUpdateConsentManagerUrl() {
+        var suffix = string();
+        var snapshot = RegistrySnapshot.of(Map.of(suffix, "http://cm.example"), Map.of(), List.of());
+
+        var updated = snapshot.withConsentManager(suffix, Optional.of("http://new-cm.example"));
+
+        assertThat(updated.cmHost(suffix)).contains("http://new-cm.example");
+    }
+}
@@ -13,6 +13,8 @@ import reactor.core.publisher.Mono;
 
 import static in.projecteka.gateway.testcommon.TestBuilders.string;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 class PathRegistryTest {
@@ -20,6 +22,9 @@ class PathRegistryTest {
     @Mock
     CacheAdapter<Pair<String, ServiceType>, String> bridgeMappings;
 
+    @Mock
+    CacheAdapter<Pair<String, ServiceType>, String> unknownBridges;
+
     @Mock
     MappingRepository mappingRepository;
 
@@ -28,7 +33,9 @@ class PathRegistryTest {
     @BeforeEach
     void init() {
         MockitoAnnotations.initMocks(this);
-        bridgeRegistry = Mockito.spy(new BridgeRegistry(bridgeMappings, mappingRepository));
+        when(unknownBridges.get(any())).thenReturn(Mono.empty());
+        when(unknownBridges.put(any(), anyString())).thenReturn(Mono.empty());
+        bridgeRegistry = Mockito.spy(new BridgeRegistry(bridgeMappings, unknownBridges, mappingRepository));
     }
 
     @ParameterizedTest
@@ -1,9 +1,9 @@
 package in.projecteka.gateway.subscriptions;
 
-import com.nimbusds.jose.jwk.JWKSet;
 import in.projecteka.gateway.clients.HiuSubscriptionNotifyServiceClient;
 import in.projecteka.gateway.common.Authenticator;
 import in.projecteka.gateway.common.Constants;
+import in.projecteka.gateway.common.RefreshingJWKSource;
 import in.projecteka.gateway.common.RequestOrchestrator;
 import in.projecteka.gateway.common.ResponseOrchestrator;
 import org.junit.jupiter.api.Test;
@@ -52,8 +52,8 @@ class SubscriptionNotificationControllerTest {
     @Autowired
     WebTestClient webTestClient;
 
-    @MockBean(name = "centralRegistryJWKSet")
-    JWKSet centralRegistryJWKSet;
+    @MockBean(name = "centralRegistryJWKSource")
+    RefreshingJWKSource centralRegistryJWKSource;
 
     @Test
     void shouldRouteNotifySubscriptionToHIU() {
@@ -4,6 +4,7 @@ import in.projecteka.gateway.clients.model.RealmRole;
 import in.projecteka.gateway.clients.model.ServiceAccount;
 import in.projecteka.gateway.clients.model.ClientSecret;
 import in.projecteka.gateway.common.Caller;
+import in.projecteka.gateway.common.OffloadOptions;
 import in.projecteka.gateway.common.cache.ServiceOptions;
 import in.projecteka.gateway.common.model.ErrorResult;
 import in.projecteka.gateway.registry.model.BridgeRegistryRequest;
@@ -49,4 +50,8 @@ public class TestBuilders {
     public static ClientSecret.ClientSecretBuilder clientSecret() {
         return easyRandom.nextObject(ClientSecret.ClientSecretBuilder.class);
     }
+
+    public static OffloadOptions.OffloadOptionsBuilder offloadOptions() {
+        return easyRandom.nextObject(OffloadOptions.OffloadOptionsBuilder.class);
+    }
 }